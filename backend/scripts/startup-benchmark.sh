@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Trains the AppCDS archive of the startup build and records how long the application context
+# takes to start with and without Spring AOT and the archive.
+#
+#   startup-benchmark.sh <target dir> <jar name> [runs]
+#
+# Run by mvn -Pstartup package. Writes <target dir>/app.jsa and appends one line per run to
+# <target dir>/startup-times.csv (timestamp,mode,millis). The archive is only valid for the JVM
+# that wrote it, so the Docker image trains its own.
+set -euo pipefail
+
+target=$1
+jar=$2
+runs=${3:-5}
+java=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+cd "$target"
+
+# No database, Redis or Kafka needed: spring.context.exit stops the JVM once the context is
+# refreshed, before the web server, listeners and runners start, and Hibernate is kept from
+# reading JDBC metadata
+props=(
+    -Dspring.context.exit=onRefresh
+    -Dspring.main.banner-mode=off
+    -Dlogging.level.root=warn
+    -Dspring.flyway.enabled=false
+    -Dspring.jpa.hibernate.ddl-auto=none
+    -Dspring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false
+)
+
+"$java" -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true "${props[@]}" -jar "$jar" > /dev/null
+
+declare -A flags=(
+    [default]=""
+    [aot]="-Dspring.aot.enabled=true"
+    [cds]="-XX:SharedArchiveFile=app.jsa"
+    [aot+cds]="-XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true"
+)
+
+[[ -f startup-times.csv ]] || echo "timestamp,mode,millis" > startup-times.csv
+now=$(date -u +%Y-%m-%dT%H:%M:%SZ)
+for mode in default aot cds aot+cds; do
+    times=()
+    for ((i = 0; i < runs; i++)); do
+        start=$(date +%s%N)
+        # shellcheck disable=SC2086
+        "$java" ${flags[$mode]} "${props[@]}" -jar "$jar" > /dev/null
+        millis=$(( ($(date +%s%N) - start) / 1000000 ))
+        times+=("$millis")
+        echo "$now,$mode,$millis" >> startup-times.csv
+    done
+    median=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (runs + 1) / 2 ))p")
+    printf 'Startup %-8s median %5d ms over %d runs\n' "$mode" "$median" "$runs"
+done
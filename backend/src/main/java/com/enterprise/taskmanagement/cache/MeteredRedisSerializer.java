@@ -0,0 +1,53 @@
+package com.enterprise.taskmanagement.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a cache value codec, separating encoding and decoding cost from the Redis round trip
+ * ({@code lettuce.command.completion}).
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final Timer serializeTimer;
+    private final Timer deserializeTimer;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, String codec, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.serializeTimer = timer("serialize", codec, meterRegistry);
+        this.deserializeTimer = timer("deserialize", codec, meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long start = System.nanoTime();
+        try {
+            return delegate.serialize(value);
+        } finally {
+            serializeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        long start = System.nanoTime();
+        try {
+            return delegate.deserialize(bytes);
+        } finally {
+            deserializeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(String operation, String codec, MeterRegistry meterRegistry) {
+        return Timer.builder("cache.codec")
+            .description("Time spent encoding or decoding cache values")
+            .tag("operation", operation)
+            .tag("codec", codec)
+            .register(meterRegistry);
+    }
+}
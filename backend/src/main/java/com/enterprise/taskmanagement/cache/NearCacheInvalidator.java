@@ -0,0 +1,47 @@
+package com.enterprise.taskmanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Broadcasts near-cache changes over Redis pub/sub so that every replica evicts its L1 copy.
+ * Pub/sub delivery is best effort; the near-cache TTL bounds staleness if a message is lost.
+ */
+public class NearCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheInvalidator.class);
+
+    public static final String CHANNEL = "task-management:near-cache:invalidate";
+    public static final String ALL_KEYS = "*";
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public NearCacheInvalidator(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publish(String cacheName, String key) {
+        redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    public MessageListener listenerFor(TwoLevelCacheManager cacheManager) {
+        return (message, pattern) -> {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3) {
+                logger.warn("Ignoring malformed near-cache invalidation message");
+                return;
+            }
+            if (!instanceId.equals(parts[0])) {
+                cacheManager.evictLocal(parts[1], parts[2]);
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.enterprise.taskmanagement.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sizing and expiry policy of the near cache.
+ */
+public final class NearCacheSettings {
+
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final double ttlJitter;
+    private final boolean staleWhileRevalidate;
+    private final Duration refreshAfter;
+
+    public NearCacheSettings(long maximumSize, Duration timeToLive, double ttlJitter,
+                             boolean staleWhileRevalidate, Duration refreshAfter) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.ttlJitter = ttlJitter;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.refreshAfter = refreshAfter;
+    }
+
+    public long getMaximumSize() { return maximumSize; }
+    public Duration getTimeToLive() { return timeToLive; }
+    public double getTtlJitter() { return ttlJitter; }
+    public boolean isStaleWhileRevalidate() { return staleWhileRevalidate; }
+    public Duration getRefreshAfter() { return refreshAfter; }
+
+    /**
+     * Spreads expiry of entries written together over {@code ttl * (1 ± jitter)} so that
+     * they do not all miss at the same instant.
+     */
+    public static Duration jittered(Duration ttl, double jitter) {
+        if (jitter <= 0 || ttl.isZero() || ttl.isNegative()) {
+            return ttl;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofMillis(Math.max(1, (long) (ttl.toMillis() * factor)));
+    }
+}
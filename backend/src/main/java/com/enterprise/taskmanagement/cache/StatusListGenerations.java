@@ -0,0 +1,51 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.entity.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * A counter per status, shared through Redis, that is folded into the key of that status's cached
+ * ids. A writer advances it before evicting; a reader takes it before loading. A load that started
+ * before a write therefore fills the previous generation's key, which no reader asks for again, and
+ * cannot put a stale id list back over the eviction.
+ */
+@Component
+public class StatusListGenerations {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusListGenerations.class);
+
+    static final String GENERATIONS_KEY = "task-cache:status-generation";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public StatusListGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public static String idsKey(Task.TaskStatus status, long generation) {
+        return status.name() + "@" + generation;
+    }
+
+    /**
+     * The status's current generation, or {@code null} if Redis cannot be read; the caller should
+     * then bypass the ids cache rather than fill a key it cannot fence.
+     */
+    public Long current(Task.TaskStatus status) {
+        try {
+            Object value = redisTemplate.opsForHash().get(GENERATIONS_KEY, status.name());
+            return value != null ? Long.parseLong(value.toString()) : 0L;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read status list generation for {}: {}", status, e.getMessage());
+            return null;
+        }
+    }
+
+    /** Moves the status to a new generation and returns it. */
+    public long advance(Task.TaskStatus status) {
+        Long next = redisTemplate.opsForHash().increment(GENERATIONS_KEY, status.name(), 1);
+        return next != null ? next : 0L;
+    }
+}
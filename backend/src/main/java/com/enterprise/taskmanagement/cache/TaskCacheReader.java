@@ -0,0 +1,84 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.config.CacheConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads the status lists through the caches without caching whole lists: a status caches only the
+ * ids of its tasks, and each task is resolved through the tasks cache. A write replaces that one
+ * task's entry and evicts a status's ids only when the task joins or leaves it (see
+ * {@link TaskCacheWriter}), so editing a task does not reload every list it appears in. The ids are
+ * keyed by the status's {@link StatusListGenerations generation}, taken before the load.
+ */
+@Component
+public class TaskCacheReader {
+
+    private final CacheManager cacheManager;
+    private final StatusListGenerations generations;
+
+    public TaskCacheReader(CacheManager cacheManager, StatusListGenerations generations) {
+        this.cacheManager = cacheManager;
+        this.generations = generations;
+    }
+
+    /**
+     * Tasks in {@code status}, in the order {@code idLoader} returned their ids. Tasks not cached
+     * are fetched together by {@code taskLoader}; ids whose task no longer exists are skipped.
+     */
+    public List<Task> findByStatus(Task.TaskStatus status, Supplier<List<UUID>> idLoader,
+                                   Function<Collection<UUID>, List<Task>> taskLoader) {
+        Cache idsCache = cacheManager.getCache(CacheConfig.TASK_IDS_BY_STATUS_CACHE);
+        Long generation = idsCache != null ? generations.current(status) : null;
+        List<UUID> ids = generation != null
+                ? idsCache.get(StatusListGenerations.idsKey(status, generation), idLoader::get)
+                : idLoader.get();
+        return resolve(ids != null ? ids : List.of(), taskLoader);
+    }
+
+    private List<Task> resolve(List<UUID> ids, Function<Collection<UUID>, List<Task>> taskLoader) {
+        Cache tasksCache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        Map<UUID, Task> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            Cache.ValueWrapper cached = tasksCache != null ? tasksCache.get(id) : null;
+            if (cached == null) {
+                missing.add(id);
+            } else if (cached.get() instanceof Task task) {
+                found.put(id, task);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, Task> loaded = new HashMap<>();
+            taskLoader.apply(missing).forEach(task -> loaded.put(task.getId(), task));
+            for (UUID id : missing) {
+                // Filled as a load, like findById's, so a deleted task is cached as absent
+                Task task = tasksCache != null ? tasksCache.get(id, () -> loaded.get(id)) : loaded.get(id);
+                if (task != null) {
+                    found.put(id, task);
+                }
+            }
+        }
+
+        List<Task> tasks = new ArrayList<>(found.size());
+        for (UUID id : ids) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,96 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.config.CacheConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the task caches in step with writes, one key at a time. A saved task is written through
+ * under its id; the status views hold only ids, so they are evicted only when the task joined or
+ * left them. Nothing is flushed wholesale.
+ * Changes are applied after the surrounding transaction commits so a rollback never reaches the cache.
+ */
+@Component
+public class TaskCacheWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCacheWriter.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StatusListGenerations generations;
+
+    public void taskSaved(Task task, Task.TaskStatus previousStatus) {
+        afterCommit(() -> {
+            put(CacheConfig.TASKS_CACHE, task.getId(), task);
+            if (previousStatus != task.getStatus()) {
+                evictIds(task.getStatus());
+                if (previousStatus != null) {
+                    evictIds(previousStatus);
+                }
+            }
+        });
+    }
+
+    public void taskDeleted(UUID id, Task.TaskStatus status) {
+        afterCommit(() -> {
+            evict(CacheConfig.TASKS_CACHE, id);
+            evictIds(status);
+        });
+    }
+
+    // Bulk writes evict rather than write through: a large import should not flood the cache
+    public void tasksChanged(Collection<UUID> ids, Collection<Task.TaskStatus> statuses) {
+        Set<Task.TaskStatus> distinctStatuses = EnumSet.noneOf(Task.TaskStatus.class);
+        distinctStatuses.addAll(statuses);
+        afterCommit(() -> {
+            ids.forEach(id -> evict(CacheConfig.TASKS_CACHE, id));
+            distinctStatuses.forEach(this::evictIds);
+        });
+    }
+
+    // Readers move to the new generation's key; the old entry is dropped only to free it early
+    private void evictIds(Task.TaskStatus status) {
+        long generation = generations.advance(status);
+        evict(CacheConfig.TASK_IDS_BY_STATUS_CACHE, StatusListGenerations.idsKey(status, generation - 1));
+    }
+
+    private void put(String cacheName, Object key, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, value);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionUtils.afterCommit(() -> runSafely(action));
+    }
+
+    // A cache outage must not fail a write that has already been committed
+    private void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to update task cache: {}", e.getMessage());
+        }
+    }
+}
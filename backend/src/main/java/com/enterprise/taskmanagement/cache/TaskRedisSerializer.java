@@ -0,0 +1,262 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.entity.Task;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.enterprise.taskmanagement.util.BinaryEncoding.fromEpochNanos;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readString;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readUuid;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readVarInt;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.toEpochNanos;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeString;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeUuid;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeVarInt;
+
+/**
+ * Compact binary encoding of the task cache values: a {@link Task}, a list of them or a list of
+ * task ids. Anything
+ * else is handed to {@code fallback}, as is any stored value not written by this serializer, so
+ * entries cached as JSON before the switch are still readable.
+ *
+ * <p>Layout: a 4-byte header (magic, format version, kind, flags), then the body, LZ4-compressed
+ * when it reaches {@code compressionThreshold} bytes and compression actually shrinks it. A task is
+ * a varint presence bitmask followed by the non-null fields: UUIDs as two longs, strings as a
+ * varint length and UTF-8 bytes, enums as ordinal bytes, timestamps as epoch nanos (UTC), and last
+ * the version as a long. A list is a varint count followed by its tasks or ids. Version 1
+ * values, which have a one-byte bitmask and no version field, are still read.
+ *
+ * <p>Enum ordinals are part of the format: appending constants is safe, reordering or removing
+ * them requires a new {@link #FORMAT_VERSION}. Values written by an unknown version are treated
+ * as a cache miss.
+ */
+public class TaskRedisSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRedisSerializer.class);
+
+    // Never the first byte of a JSON document, which is how JSON entries are told apart
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte FORMAT_VERSION = 2;
+    static final byte FORMAT_VERSION_1 = 1;
+
+    static final byte KIND_TASK = 1;
+    static final byte KIND_TASK_LIST = 2;
+    static final byte KIND_ID_LIST = 3;
+
+    static final byte FLAG_LZ4 = 1;
+
+    private static final int HEADER_LENGTH = 4;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_TITLE = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_STATUS = 1 << 3;
+    private static final int HAS_PRIORITY = 1 << 4;
+    private static final int HAS_ASSIGNEE = 1 << 5;
+    private static final int HAS_CREATED_AT = 1 << 6;
+    private static final int HAS_UPDATED_AT = 1 << 7;
+    private static final int HAS_VERSION = 1 << 8;
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+    private static final Task.TaskPriority[] PRIORITIES = Task.TaskPriority.values();
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param compressionThreshold body size in bytes from which compression is attempted;
+     *                             negative disables compression
+     */
+    public TaskRedisSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte kind;
+        if (value instanceof Task) {
+            kind = KIND_TASK;
+        } else if (isListOf(value, Task.class)) {
+            kind = KIND_TASK_LIST;
+        } else if (isListOf(value, UUID.class)) {
+            kind = KIND_ID_LIST;
+        } else {
+            return fallback.serialize(value);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (kind == KIND_TASK) {
+                writeTask(out, (Task) value);
+            } else {
+                List<?> elements = (List<?>) value;
+                writeVarInt(out, elements.size());
+                for (Object element : elements) {
+                    if (kind == KIND_TASK_LIST) {
+                        writeTask(out, (Task) element);
+                    } else {
+                        writeUuid(out, (UUID) element);
+                    }
+                }
+            }
+        } catch (IOException | ArithmeticException e) {
+            throw new SerializationException("Could not encode cached task value", e);
+        }
+        byte[] body = bytes.toByteArray();
+
+        if (compressionThreshold >= 0 && body.length >= compressionThreshold) {
+            byte[] compressed = compress(body);
+            if (compressed.length < body.length) {
+                return withHeader(kind, FLAG_LZ4, compressed);
+            }
+        }
+        return withHeader(kind, (byte) 0, body);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        byte formatVersion = bytes.length > 1 ? bytes[1] : 0;
+        if (bytes.length < HEADER_LENGTH || (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_1)) {
+            logger.debug("Ignoring cached task value in unsupported format version {}", bytes.length > 1 ? bytes[1] : "?");
+            return null;
+        }
+
+        byte kind = bytes[2];
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            if ((bytes[3] & FLAG_LZ4) != 0) {
+                in = ByteBuffer.wrap(decompress(in));
+            }
+            switch (kind) {
+                case KIND_TASK:
+                    return readTask(in, formatVersion);
+                case KIND_TASK_LIST:
+                    int size = readVarInt(in);
+                    List<Task> tasks = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        tasks.add(readTask(in, formatVersion));
+                    }
+                    return tasks;
+                case KIND_ID_LIST:
+                    int count = readVarInt(in);
+                    List<UUID> ids = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        ids.add(readUuid(in));
+                    }
+                    return ids;
+                default:
+                    throw new SerializationException("Unknown cached value kind: " + kind);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | LZ4Exception e) {
+            throw new SerializationException("Corrupt cached task value", e);
+        }
+    }
+
+    // An empty list counts as a task list; either kind reads back as an empty list
+    private static boolean isListOf(Object value, Class<?> elementType) {
+        if (!(value instanceof List<?> list)) {
+            return false;
+        }
+        for (Object element : list) {
+            if (!elementType.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeTask(DataOutputStream out, Task task) throws IOException {
+        int present = 0;
+        if (task.getId() != null) present |= HAS_ID;
+        if (task.getTitle() != null) present |= HAS_TITLE;
+        if (task.getDescription() != null) present |= HAS_DESCRIPTION;
+        if (task.getStatus() != null) present |= HAS_STATUS;
+        if (task.getPriority() != null) present |= HAS_PRIORITY;
+        if (task.getAssigneeId() != null) present |= HAS_ASSIGNEE;
+        if (task.getCreatedAt() != null) present |= HAS_CREATED_AT;
+        if (task.getUpdatedAt() != null) present |= HAS_UPDATED_AT;
+        if (task.getVersion() != null) present |= HAS_VERSION;
+        writeVarInt(out, present);
+
+        if (task.getId() != null) writeUuid(out, task.getId());
+        if (task.getTitle() != null) writeString(out, task.getTitle());
+        if (task.getDescription() != null) writeString(out, task.getDescription());
+        if (task.getStatus() != null) out.writeByte(task.getStatus().ordinal());
+        if (task.getPriority() != null) out.writeByte(task.getPriority().ordinal());
+        if (task.getAssigneeId() != null) writeUuid(out, task.getAssigneeId());
+        if (task.getCreatedAt() != null) out.writeLong(toEpochNanos(task.getCreatedAt()));
+        if (task.getUpdatedAt() != null) out.writeLong(toEpochNanos(task.getUpdatedAt()));
+        if (task.getVersion() != null) out.writeLong(task.getVersion());
+    }
+
+    private static Task readTask(ByteBuffer in, byte formatVersion) {
+        int present = formatVersion == FORMAT_VERSION_1 ? in.get() & 0xFF : readVarInt(in);
+        Task task = new Task();
+        task.setId((present & HAS_ID) != 0 ? readUuid(in) : null);
+        task.setTitle((present & HAS_TITLE) != 0 ? readString(in) : null);
+        task.setDescription((present & HAS_DESCRIPTION) != 0 ? readString(in) : null);
+        task.setStatus((present & HAS_STATUS) != 0 ? STATUSES[in.get()] : null);
+        task.setPriority((present & HAS_PRIORITY) != 0 ? PRIORITIES[in.get()] : null);
+        task.setAssigneeId((present & HAS_ASSIGNEE) != 0 ? readUuid(in) : null);
+        task.setCreatedAt((present & HAS_CREATED_AT) != 0 ? fromEpochNanos(in.getLong()) : null);
+        task.setUpdatedAt((present & HAS_UPDATED_AT) != 0 ? fromEpochNanos(in.getLong()) : null);
+        task.setVersion((present & HAS_VERSION) != 0 ? in.getLong() : null);
+        return task;
+    }
+
+    private byte[] compress(byte[] body) {
+        byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(body.length)];
+        ByteBuffer.wrap(compressed).putInt(body.length);
+        int length = compressor.compress(body, 0, body.length, compressed, Integer.BYTES);
+        return Arrays.copyOf(compressed, Integer.BYTES + length);
+    }
+
+    private byte[] decompress(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative uncompressed length");
+        }
+        byte[] body = new byte[length];
+        decompressor.decompress(in.array(), in.arrayOffset() + in.position(), body, 0, length);
+        return body;
+    }
+
+    private static byte[] withHeader(byte kind, byte flags, byte[] body) {
+        byte[] bytes = new byte[HEADER_LENGTH + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = FORMAT_VERSION;
+        bytes[2] = kind;
+        bytes[3] = flags;
+        System.arraycopy(body, 0, bytes, HEADER_LENGTH, body.length);
+        return bytes;
+    }
+}
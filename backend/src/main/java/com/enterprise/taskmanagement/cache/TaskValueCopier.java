@@ -0,0 +1,30 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copies the task cache values held in the near cache. Tasks are mutable entities, so each reader
+ * gets its own; lists are copied element by element. Everything else cached (ids, nulls) is
+ * immutable and returned as is.
+ */
+public class TaskValueCopier implements UnaryOperator<Object> {
+
+    @Override
+    public Object apply(Object value) {
+        if (value instanceof Task task) {
+            return new Task(task);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(apply(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,262 @@
+package com.enterprise.taskmanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-process near cache (L1) in front of a shared remote cache (L2). Reads are served from L1 when
+ * possible; writes go to both tiers and are broadcast so other instances drop their L1 copy. Values
+ * a load or refresh brings in are stored in both tiers without a broadcast.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} are single-flight: concurrent misses for one key share
+ * a single call to the loader. With stale-while-revalidate enabled, an entry past its refresh time is
+ * still returned while one background load replaces it.
+ * <p>
+ * The near cache holds copies made by {@code valueCopier} and hands out copies, so a caller that
+ * changes a value it got cannot change what other readers see. Every change to a key bumps its
+ * invalidation generation before the near copy is replaced or dropped; a fill that read L2 under
+ * an older generation removes what it wrote, so it cannot outlive an invalidation it raced.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, NearCacheEntry> local;
+    private final NearCacheInvalidator invalidator;
+    private final NearCacheSettings settings;
+    private final Executor refreshExecutor;
+    private final UnaryOperator<Object> valueCopier;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    // Striped by key hash; unrelated keys sharing a stripe only cost an occasional skipped fill
+    private static final int GENERATION_STRIPES = 64;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TwoLevelCache(String name, Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<String, NearCacheEntry> local,
+                         NearCacheInvalidator invalidator, NearCacheSettings settings, Executor refreshExecutor,
+                         UnaryOperator<Object> valueCopier) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidator = invalidator;
+        this.settings = settings;
+        this.refreshExecutor = refreshExecutor;
+        this.valueCopier = valueCopier;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public com.github.benmanes.caffeine.cache.Cache<String, NearCacheEntry> getLocalCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        NearCacheEntry entry = lookup(key);
+        return entry != null ? new SimpleValueWrapper(copy(entry.getValue())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        NearCacheEntry entry = lookup(key);
+        if (entry != null) {
+            if (settings.isStaleWhileRevalidate() && entry.isRefreshDue()) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) copy(entry.getValue());
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remote.put(key, value);
+        generations.incrementAndGet(stripe(localKey));
+        local.put(localKey, newEntry(value));
+        invalidator.publish(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(localKey(key));
+        invalidator.publish(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        evictLocal(NearCacheInvalidator.ALL_KEYS);
+        invalidator.publish(name, NearCacheInvalidator.ALL_KEYS);
+    }
+
+    void evictLocal(String key) {
+        if (NearCacheInvalidator.ALL_KEYS.equals(key)) {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            local.invalidateAll();
+        } else {
+            generations.incrementAndGet(stripe(key));
+            local.invalidate(key);
+        }
+    }
+
+    private NearCacheEntry lookup(Object key) {
+        String localKey = localKey(key);
+        NearCacheEntry entry = local.getIfPresent(localKey);
+        if (entry != null) {
+            return entry;
+        }
+        long generation = generations.get(stripe(localKey));
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        return fillLocal(localKey, remoteValue.get(), generation);
+    }
+
+    // A loaded value is what the source already holds, so peers have nothing to drop: no broadcast
+    private void fill(Object key, Object value, long generation) {
+        remote.put(key, value);
+        fillLocal(localKey(key), value, generation);
+    }
+
+    // Put, then check: an invalidation either bumped the generation before the check, and the
+    // fill is withdrawn here, or comes after the put and drops it itself
+    private NearCacheEntry fillLocal(String localKey, Object value, long generation) {
+        NearCacheEntry entry = newEntry(value);
+        local.put(localKey, entry);
+        if (generations.get(stripe(localKey)) != generation) {
+            local.asMap().remove(localKey, entry);
+        }
+        return entry;
+    }
+
+    // Callers that miss together wait on the first caller's load instead of each querying the database
+    private Object load(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> ours = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, ours);
+        if (inFlight != null) {
+            try {
+                return copy(inFlight.join());
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        try {
+            long generation = generations.get(stripe(localKey));
+            Object value = valueLoader.call();
+            fill(key, value, generation);
+            ours.complete(value);
+            return value;
+        } catch (Exception e) {
+            ours.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(localKey, ours);
+        }
+    }
+
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> ours = new CompletableFuture<>();
+        if (loading.putIfAbsent(localKey, ours) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    long generation = generations.get(stripe(localKey));
+                    Object value = valueLoader.call();
+                    fill(key, value, generation);
+                    ours.complete(value);
+                } catch (Exception e) {
+                    logger.warn("Background refresh of {}::{} failed: {}", name, key, e.getMessage());
+                    ours.completeExceptionally(e);
+                } finally {
+                    loading.remove(localKey, ours);
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.remove(localKey, ours);
+            logger.warn("Could not schedule refresh of {}::{}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private NearCacheEntry newEntry(Object value) {
+        return new NearCacheEntry(copy(value), System.nanoTime() + settings.getRefreshAfter().toNanos());
+    }
+
+    private Object copy(Object value) {
+        return value != null ? valueCopier.apply(value) : null;
+    }
+
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    // Keys travel between instances as text; task caches are keyed by UUID or enum, both stable as strings
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Near-cache slot. Caffeine cannot hold nulls, so cached nulls are kept as {@link NullValue}.
+     */
+    public static final class NearCacheEntry {
+
+        private final Object value;
+        private final long refreshAtNanos;
+
+        NearCacheEntry(Object value, long refreshAtNanos) {
+            this.value = value != null ? value : NullValue.INSTANCE;
+            this.refreshAtNanos = refreshAtNanos;
+        }
+
+        public Object getValue() {
+            return value == NullValue.INSTANCE ? null : value;
+        }
+
+        boolean isRefreshDue() {
+            return System.nanoTime() - refreshAtNanos >= 0;
+        }
+    }
+}
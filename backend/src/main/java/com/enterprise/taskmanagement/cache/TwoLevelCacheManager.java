@@ -0,0 +1,90 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decorates every cache of the remote {@link CacheManager} with a bounded, short-lived near cache.
+ * Near-cached values are copied with {@code valueCopier} on the way in and out.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final NearCacheInvalidator invalidator;
+    private final NearCacheSettings settings;
+    private final Executor refreshExecutor;
+    private final UnaryOperator<Object> valueCopier;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, NearCacheInvalidator invalidator,
+                                NearCacheSettings settings, Executor refreshExecutor,
+                                UnaryOperator<Object> valueCopier) {
+        this.remote = remote;
+        this.invalidator = invalidator;
+        this.settings = settings;
+        this.refreshExecutor = refreshExecutor;
+        this.valueCopier = valueCopier;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(n, remoteCache, Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfter(jitteredExpiry())
+                .recordStats()
+                .<String, TwoLevelCache.NearCacheEntry>build(), invalidator, settings, refreshExecutor,
+                valueCopier));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /**
+     * Drops a near-cache entry after another instance changed it; the remote tier is left alone.
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    private Expiry<String, TwoLevelCache.NearCacheEntry> jitteredExpiry() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, TwoLevelCache.NearCacheEntry value, long currentTime) {
+                return NearCacheSettings.jittered(settings.getTimeToLive(), settings.getTtlJitter()).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, TwoLevelCache.NearCacheEntry value,
+                                          long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, TwoLevelCache.NearCacheEntry value,
+                                        long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.enterprise.taskmanagement.config;
+
+import com.enterprise.taskmanagement.cache.MeteredRedisSerializer;
+import com.enterprise.taskmanagement.cache.NearCacheInvalidator;
+import com.enterprise.taskmanagement.cache.NearCacheSettings;
+import com.enterprise.taskmanagement.cache.TaskRedisSerializer;
+import com.enterprise.taskmanagement.cache.TaskValueCopier;
+import com.enterprise.taskmanagement.cache.TwoLevelCache;
+import com.enterprise.taskmanagement.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+    // Ids only; the tasks are resolved through TASKS_CACHE (see TaskCacheReader)
+    public static final String TASK_IDS_BY_STATUS_CACHE = "taskIdsByStatus";
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    @Value("${app.cache.ttl-jitter:0.1}")
+    private double ttlJitter;
+
+    @Value("${app.cache.codec.type:binary}")
+    private String codec;
+
+    @Value("${app.cache.codec.compression-threshold:512}")
+    private int compressionThreshold;
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        Duration configuredTtl = cacheProperties.getRedis().getTimeToLive();
+        Duration ttl = configuredTtl != null ? configuredTtl : DEFAULT_TTL;
+        return RedisCacheConfiguration.defaultCacheConfig()
+                // Entries written in the same burst would otherwise all expire, and miss, together
+                .entryTtl((key, value) -> NearCacheSettings.jittered(ttl, ttlJitter))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new MeteredRedisSerializer(cacheValueSerializer(), codec, meterRegistry)));
+    }
+
+    private RedisSerializer<Object> cacheValueSerializer() {
+        switch (codec) {
+            case "binary":
+                return new TaskRedisSerializer(RedisConfig.jsonRedisSerializer(), compressionThreshold);
+            case "json":
+                return RedisConfig.jsonRedisSerializer();
+            default:
+                throw new IllegalStateException("Unknown app.cache.codec.type: " + codec + " (expected binary or json)");
+        }
+    }
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               RedisCacheConfiguration redisCacheConfiguration,
+                                               CacheProperties cacheProperties) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
+                .initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+        if (cacheProperties.getRedis().isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Near cache in front of Redis: hot tasks are served from the JVM without a network
+     * round trip or JSON deserialization.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "app.cache.near.enabled", havingValue = "true", matchIfMissing = true)
+    static class NearCacheConfiguration {
+
+        @Value("${app.cache.near.maximum-size:10000}")
+        private long maximumSize;
+
+        @Value("${app.cache.near.time-to-live:30s}")
+        private Duration timeToLive;
+
+        @Value("${app.cache.ttl-jitter:0.1}")
+        private double ttlJitter;
+
+        @Value("${app.cache.near.stale-while-revalidate:false}")
+        private boolean staleWhileRevalidate;
+
+        @Value("${app.cache.near.refresh-after:20s}")
+        private Duration refreshAfter;
+
+        @Bean
+        public NearCacheInvalidator nearCacheInvalidator(StringRedisTemplate stringRedisTemplate) {
+            return new NearCacheInvalidator(stringRedisTemplate);
+        }
+
+        @Bean
+        @Primary
+        public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                                 NearCacheInvalidator nearCacheInvalidator,
+                                                 @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                                 Executor refreshExecutor) {
+            NearCacheSettings settings = new NearCacheSettings(
+                    maximumSize, timeToLive, ttlJitter, staleWhileRevalidate, refreshAfter);
+            return new TwoLevelCacheManager(redisCacheManager, nearCacheInvalidator, settings, refreshExecutor,
+                    new TaskValueCopier());
+        }
+
+        @Bean
+        public RedisMessageListenerContainer nearCacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            NearCacheInvalidator nearCacheInvalidator) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(nearCacheInvalidator.listenerFor(cacheManager),
+                    new ChannelTopic(NearCacheInvalidator.CHANNEL));
+            return container;
+        }
+
+        @Bean
+        public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+            return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getLocalCache(), cache.getName(), tags);
+        }
+    }
+}
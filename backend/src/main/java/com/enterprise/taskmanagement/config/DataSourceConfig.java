@@ -0,0 +1,40 @@
+package com.enterprise.taskmanagement.config;
+
+import com.enterprise.taskmanagement.util.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * With virtual threads every request gets its own thread, so nothing upstream caps how many
+ * callers wait on the Hikari pool at once. The pool is wrapped so at most
+ * {@code maximum-pool-size} callers hold or wait for a connection; the rest queue fairly on a
+ * semaphore and give up after {@code app.datasource.acquire-timeout}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        Duration acquireTimeout = Binder.get(environment)
+            .bind("app.datasource.acquire-timeout", Duration.class)
+            .orElse(Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.enterprise.taskmanagement.config;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * What a native image (the {@code native} Maven profile) has to include beyond what AOT processing
+ * finds on its own. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.TaskManagementHints.class)
+public class NativeHintsConfig {
+
+    static class TaskManagementHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Redis Lua scripts, loaded as class path resources
+            hints.resources().registerPattern("redis/*.lua");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.enterprise.taskmanagement.config;
+
+import com.enterprise.taskmanagement.util.ConnectionLimitingDataSource;
+import com.enterprise.taskmanagement.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes {@code @Transactional(readOnly = true)} work to the pools listed under
+ * {@code app.datasource.replicas} and all other work to {@code spring.datasource}. Every pool
+ * takes its settings from {@code spring.datasource.hikari}; replicas default to the primary's
+ * credentials.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${app.datasource.routing.max-lag:PT1S}")
+    private Duration maxLag;
+
+    @Value("${app.datasource.routing.lag-query}")
+    private String lagQuery;
+
+    @Value("${app.datasource.routing.read-your-writes:PT5S}")
+    private Duration readYourWrites;
+
+    @Value("${app.datasource.acquire-timeout:5s}")
+    private Duration acquireTimeout;
+
+    // Replica pools are not beans, so nothing else closes them
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+
+    @PreDestroy
+    public void closeReplicaPools() {
+        replicaPools.forEach(HikariDataSource::close);
+    }
+
+    // Wrapped by DataSourceConfig under virtual threads and instrumented by Boot like the default pool
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        return pool(properties, "primary", environment);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                      DataSourceProperties primaryProperties, Environment environment,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSourceProperties> replicaProperties = Binder.get(environment)
+            .bind("app.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+            .orElse(List.of());
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceProperties properties = replicaProperties.get(i);
+            if (properties.getUsername() == null) {
+                properties.setUsername(primaryProperties.determineUsername());
+                properties.setPassword(primaryProperties.determinePassword());
+            }
+            String name = "replica-" + (i + 1);
+            HikariDataSource hikari = pool(properties, name, environment);
+            replicaPools.add(hikari);
+            meterRegistry.ifAvailable(registry -> hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(name, Threading.VIRTUAL.isActive(environment)
+                ? new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout) : hikari);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, lagQuery, readYourWrites);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource routingDataSource) {
+        return new ReplicaLagMonitor(routingDataSource);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name, Environment environment) {
+        HikariDataSource hikari = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(hikari));
+        hikari.setPoolName(name);
+        return hikari;
+    }
+
+    public static class ReplicaLagMonitor {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval:PT1S}")
+        public void checkLag() {
+            routingDataSource.checkLag();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.enterprise.taskmanagement.config;
+
+import com.enterprise.taskmanagement.util.DatabaseUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Keeps monthly {@code created_at} range partitions of {@code tasks} on PostgreSQL: the current
+ * month and {@code app.partitioning.months-ahead} more exist before rows arrive, and a month
+ * older than {@code app.archive.after} whose partition the archiver has emptied is dropped.
+ * Only partitions named {@code tasks_pYYYY_MM} are managed; {@code tasks_default} and a converted
+ * legacy table are left alone. Statements are idempotent, so instances need not coordinate.
+ *
+ * <p>Does nothing while {@code tasks} is not partitioned (see docs/DEPLOYMENT.md, "Partitioned
+ * tasks"), as on H2 in tests.
+ */
+@Component
+public class TaskPartitionManager implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPartitionManager.class);
+
+    static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'tasks_p'yyyy_MM");
+
+    static final String IS_PARTITIONED =
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('tasks'))";
+
+    static final String LIST_PARTITIONS =
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+        "WHERE i.inhparent = to_regclass('tasks')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${app.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.archive.after:P90D}")
+    private Duration archiveAfter;
+
+    @Value("${app.partitioning.lock-timeout:PT5S}")
+    private Duration lockTimeout;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.partitioning.interval:PT6H}", initialDelayString = "${app.partitioning.interval:PT6H}")
+    public void maintain() {
+        if (!DatabaseUtils.isPostgres(dataSource)) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class))) {
+                logger.info("Task partitions not managed: tasks is not a partitioned table");
+                return;
+            }
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= monthsAhead; i++) {
+                create(jdbcTemplate, current.plusMonths(i));
+            }
+            YearMonth oldestKept = YearMonth.from(LocalDateTime.now().minus(archiveAfter));
+            for (String partition : jdbcTemplate.queryForList(LIST_PARTITIONS, String.class)) {
+                YearMonth month = monthOf(partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    dropIfEmpty(jdbcTemplate, partition);
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Task partition maintenance failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    static String createStatement(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + month.format(PARTITION_NAME) + " PARTITION OF tasks " +
+            "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    static YearMonth monthOf(String partition) {
+        try {
+            return YearMonth.parse(partition, PARTITION_NAME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void create(JdbcTemplate jdbcTemplate, YearMonth month) {
+        try {
+            jdbcTemplate.execute(createStatement(month));
+        } catch (DataAccessException e) {
+            // Typically the month is still covered by a converted legacy partition, or rows for it
+            // already sit in tasks_default and have to be moved by hand
+            logger.warn("Task partition for {} not created, its rows go to tasks_default: {}", month, e.getMessage());
+        }
+    }
+
+    // DETACH ... CONCURRENTLY cannot run in a transaction block, and lock_timeout has to be set on
+    // the connection that detaches, so both run on one autocommit connection. The detach waits for
+    // queries already using the partition instead of blocking every query on tasks; one cut short
+    // by the timeout leaves the partition pending detach, and the next run finalizes it.
+    private void dropIfEmpty(JdbcTemplate jdbcTemplate, String partition) {
+        // The name comes from pg_class and matched PARTITION_NAME, so it is safe to inline
+        List<Integer> rows = jdbcTemplate.queryForList("SELECT 1 FROM " + partition + " LIMIT 1", Integer.class);
+        if (!rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET lock_timeout = " + lockTimeout.toMillis());
+                try {
+                    boolean pending = isDetachPending(statement, partition);
+                    statement.execute("ALTER TABLE tasks DETACH PARTITION " + partition + (pending ? " FINALIZE" : " CONCURRENTLY"));
+                    // Rows inserted for the month before the detach took effect go back
+                    try (ResultSet remaining = statement.executeQuery("SELECT 1 FROM " + partition + " LIMIT 1")) {
+                        if (remaining.next()) {
+                            statement.execute(attachStatement(partition));
+                            logger.warn("Task partition {} received rows while being detached, attached it again", partition);
+                            return null;
+                        }
+                    }
+                    statement.execute("DROP TABLE IF EXISTS " + partition);
+                    logger.info("Dropped empty task partition {}", partition);
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    static String attachStatement(String partition) {
+        YearMonth month = monthOf(partition);
+        return "ALTER TABLE tasks ATTACH PARTITION " + partition +
+            " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    private static boolean isDetachPending(Statement statement, String partition) throws SQLException {
+        try (ResultSet result = statement.executeQuery(
+                "SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = to_regclass('" + partition + "')")) {
+            return result.next() && result.getBoolean(1);
+        }
+    }
+}
@@ -1,9 +1,25 @@
 package com.enterprise.taskmanagement.controller;
 
+import com.enterprise.taskmanagement.dto.BulkTaskResult;
+import com.enterprise.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.enterprise.taskmanagement.dto.TaskChanges;
 import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskFields;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.dto.TaskPage;
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
 import com.enterprise.taskmanagement.dto.TaskUpdateRequest;
+import com.enterprise.taskmanagement.entity.ArchivedTask;
 import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.service.TaskArchiveService;
+import com.enterprise.taskmanagement.service.TaskBulkService;
+import com.enterprise.taskmanagement.service.TaskChangeFeed;
+import com.enterprise.taskmanagement.service.TaskExportService;
 import com.enterprise.taskmanagement.service.TaskService;
+import com.enterprise.taskmanagement.service.TaskStatsService;
+import com.enterprise.taskmanagement.service.TaskSyncService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,16 +27,27 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -31,40 +58,116 @@ public class TaskController {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String SYNC_SINCE_HEADER = "X-Sync-Since";
+    
+    // Clients may keep responses but must revalidate them (If-None-Match) before every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    private static final String FIELDS_DESCRIPTION = "Comma-separated task fields to return, e.g. title,status,priority; " +
+            "id is always included. All fields when omitted";
+    
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private TaskBulkService taskBulkService;
+    
+    @Autowired
+    private TaskExportService taskExportService;
+    
+    @Autowired
+    private TaskStatsService taskStatsService;
+    
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+    
+    @Autowired
+    private TaskSyncService taskSyncService;
+    
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+    
+    @Autowired
+    private TaskListWriter taskListWriter;
+    
     @GetMapping
-    @Operation(summary = "Get all tasks", description = "Retrieve all tasks with optional pagination")
-    public ResponseEntity<List<Task>> getAllTasks(
-            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+    @Operation(summary = "Get all tasks", description = "Retrieve tasks page by page. The default ordering (newest first) " +
+            "uses keyset pagination: pass the " + NEXT_CURSOR_HEADER + " response header back as 'cursor' to get the next page")
+    public ResponseEntity<byte[]> getAllTasks(
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page number (0-based), only for custom sort orders") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            WebRequest request) {
         
-        logger.info("Getting all tasks - page: {}, size: {}", page, size);
+        logger.info("Getting all tasks - cursor: {}, page: {}, size: {}, fields: {}", cursor, page, size, fields);
+        TaskFields taskFields = TaskFields.parse(fields);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // Checked before the page is read: an unchanged collection costs two MAX lookups
+        String etag = taskSyncService.collectionETag();
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        String syncSince = taskSyncService.syncPoint().toString();
+        // Without the description, rows are read as TaskListItems: narrow columns, no entities
+        Class<?> type = taskFields.includesDescription() ? Task.class : TaskListItem.class;
         
-        if (page == 0 && size == 20) {
-            // Return all tasks for default pagination
-            List<Task> tasks = taskService.findAll();
-            return ResponseEntity.ok(tasks);
-        } else {
-            Page<Task> taskPage = taskService.findTasksPaginated(pageable);
-            return ResponseEntity.ok(taskPage.getContent());
+        boolean defaultOrder = "createdAt".equals(sortBy) && "desc".equalsIgnoreCase(sortDir);
+        if (cursor != null || (page == 0 && defaultOrder)) {
+            TaskPage<?> taskPage = type == Task.class
+                ? taskService.findTasksAfter(cursor, size)
+                : taskService.findTaskItemsAfter(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag).cacheControl(REVALIDATE).header(SYNC_SINCE_HEADER, syncSince);
+            if (taskPage.hasNext()) {
+                response.header(NEXT_CURSOR_HEADER, taskPage.getNextCursor());
+            }
+            return taskList(response, taskPage.getContent(), type, taskFields);
         }
+        
+        // priority is stored as its name; sort by the rank column to get HIGH > MEDIUM > LOW
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), "priority".equals(sortBy) ? "priorityRank" : sortBy);
+        Pageable pageable = PageRequest.of(page, Math.min(size, TaskService.MAX_PAGE_SIZE), sort);
+        Page<?> taskPage = type == Task.class
+            ? taskService.findTasksPaginated(pageable)
+            : taskService.findTaskItemsPaginated(pageable);
+        return taskList(ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).header(SYNC_SINCE_HEADER, syncSince),
+            taskPage.getContent(), type, taskFields);
     }
     
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID", description = "Retrieve a specific task by its ID")
-    public ResponseEntity<Task> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable UUID id, WebRequest request) {
         logger.info("Getting task by id: {}", id);
         
-        return taskService.findById(id)
-            .map(task -> ResponseEntity.ok(task))
-            .orElse(ResponseEntity.notFound().build());
+        Optional<Task> task = taskService.findById(id);
+        if (task.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = etag(task.get());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(task.get());
+    }
+    
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes", description = "Tasks created or updated, and ids of tasks deleted, after " +
+            "'since'. Start from the " + SYNC_SINCE_HEADER + " header of a full list response, then pass back the " +
+            "returned 'since'. 410 Gone means the client must reload the full list")
+    public ResponseEntity<TaskChanges> getTaskChanges(
+            @Parameter(description = "Sync point returned by the previous call (ISO-8601 date-time)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Maximum number of changed tasks") @RequestParam(defaultValue = "500") int size) {
+        logger.info("Getting task changes since: {}", since);
+        
+        if (taskSyncService.isExpired(since)) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        return ResponseEntity.ok(taskSyncService.findChangesSince(since, size));
     }
     
     @PostMapping
@@ -86,7 +189,30 @@ public class TaskController {
         
         try {
             Task updatedTask = taskService.updateTask(id, request);
-            return ResponseEntity.ok(updatedTask);
+            return ResponseEntity.ok().eTag(etag(updatedTask)).body(updatedTask);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PatchMapping(value = "/{id}", consumes = {TaskPatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Patch task", description = "Change some fields of a task with a JSON Merge Patch (RFC 7396). " +
+            "Send the task's ETag in If-Match to apply the patch only if nobody changed the task since it was read: " +
+            "412 Precondition Failed means it was changed, re-read it and retry")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Task> patchTask(@PathVariable UUID id, @RequestBody JsonNode patch,
+            @Parameter(description = "ETag of the task as last read") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("Patching task: {}", id);
+        
+        TaskPatch taskPatch = TaskPatch.from(patch);
+        Long expectedVersion = expectedVersion(ifMatch);
+        try {
+            Task patchedTask = taskService.patchTask(id, taskPatch, expectedVersion);
+            return ResponseEntity.ok().eTag(etag(patchedTask)).body(patchedTask);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -106,31 +232,146 @@ public class TaskController {
         }
     }
     
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create tasks", description = "Create many tasks in one request. Items are validated and " +
+            "stored independently; the response reports the outcome of each item in submission order")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskResult> createTasks(@RequestBody List<TaskCreateRequest> requests) {
+        logger.info("Bulk creating {} tasks", requests.size());
+        
+        return ResponseEntity.ok(taskBulkService.createTasks(requests));
+    }
+    
+    @PutMapping("/bulk")
+    @Operation(summary = "Bulk update tasks", description = "Update many tasks in one request, each item identified by its id")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskResult> updateTasks(@RequestBody List<TaskBulkUpdateRequest> requests) {
+        logger.info("Bulk updating {} tasks", requests.size());
+        
+        return ResponseEntity.ok(taskBulkService.updateTasks(requests));
+    }
+    
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Bulk delete tasks", description = "Delete the tasks whose ids are listed in the request body")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskResult> deleteTasks(@RequestBody List<UUID> ids) {
+        logger.info("Bulk deleting {} tasks", ids.size());
+        
+        return ResponseEntity.ok(taskBulkService.deleteTasks(ids));
+    }
+    
     @GetMapping("/status/{status}")
     @Operation(summary = "Get tasks by status", description = "Retrieve tasks filtered by status")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable Task.TaskStatus status) {
-        logger.info("Getting tasks by status: {}", status);
+    public ResponseEntity<byte[]> getTasksByStatus(
+            @PathVariable Task.TaskStatus status,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        logger.info("Getting tasks by status: {}, fields: {}", status, fields);
+        TaskFields taskFields = TaskFields.parse(fields);
         
+        // Served from the read model or the cache, where the description costs no query. Both may
+        // trail the database, so a version read from it could tag a list older than it names
         List<Task> tasks = taskService.findByStatus(status);
-        return ResponseEntity.ok(tasks);
+        return taskList(ResponseEntity.ok().cacheControl(REVALIDATE), tasks, Task.class, taskFields);
     }
     
     @GetMapping("/assignee/{assigneeId}")
     @Operation(summary = "Get tasks by assignee", description = "Retrieve tasks assigned to a specific user")
-    public ResponseEntity<List<Task>> getTasksByAssignee(@PathVariable UUID assigneeId) {
-        logger.info("Getting tasks by assignee: {}", assigneeId);
+    public ResponseEntity<byte[]> getTasksByAssignee(
+            @PathVariable UUID assigneeId,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        logger.info("Getting tasks by assignee: {}, fields: {}", assigneeId, fields);
+        TaskFields taskFields = TaskFields.parse(fields);
         
         List<Task> tasks = taskService.findByAssigneeId(assigneeId);
-        return ResponseEntity.ok(tasks);
+        return taskList(ResponseEntity.ok(), tasks, Task.class, taskFields);
+    }
+    
+    @GetMapping("/assignee/{assigneeId}/queue")
+    @Operation(summary = "Get work queue", description = "Next tasks for an assignee, highest priority first, " +
+            "then oldest first")
+    public ResponseEntity<byte[]> getWorkQueue(
+            @PathVariable UUID assigneeId,
+            @Parameter(description = "Status of the tasks to return") @RequestParam(defaultValue = "TODO") Task.TaskStatus status,
+            @Parameter(description = "Maximum number of tasks, at most 100") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        logger.info("Getting work queue for assignee: {}, status: {}, fields: {}", assigneeId, status, fields);
+        TaskFields taskFields = TaskFields.parse(fields);
+        
+        if (taskFields.includesDescription()) {
+            return taskList(ResponseEntity.ok(), taskService.findQueue(assigneeId, status, limit), Task.class, taskFields);
+        }
+        return taskList(ResponseEntity.ok(), taskService.findQueueItems(assigneeId, status, limit), TaskListItem.class, taskFields);
     }
     
     @GetMapping("/search")
-    @Operation(summary = "Search tasks", description = "Search tasks by keyword in title or description")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String keyword) {
+    @Operation(summary = "Search tasks", description = "Full-text search in title and description, best match first, " +
+            "with highlighted snippets")
+    public ResponseEntity<List<TaskSearchHit>> searchTasks(
+            @Parameter(description = "Search terms; quoted phrases, OR and -exclusion are supported") @RequestParam String keyword,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         logger.info("Searching tasks with keyword: {}", keyword);
         
-        List<Task> tasks = taskService.searchTasks(keyword);
-        return ResponseEntity.ok(tasks);
+        List<TaskSearchHit> hits = taskService.searchTasks(keyword, page, size);
+        return ResponseEntity.ok(hits);
+    }
+    
+    @GetMapping("/archive/{id}")
+    @Operation(summary = "Get archived task", description = "Retrieve a completed task moved to the archive")
+    public ResponseEntity<ArchivedTask> getArchivedTask(@PathVariable UUID id) {
+        logger.info("Getting archived task by id: {}", id);
+        
+        return taskArchiveService.findById(id)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/archive/assignee/{assigneeId}")
+    @Operation(summary = "Get archived tasks by assignee", description = "Archived tasks of a user, newest first")
+    public ResponseEntity<List<ArchivedTask>> getArchivedTasksByAssignee(
+            @PathVariable UUID assigneeId,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100") @RequestParam(defaultValue = "20") int size) {
+        logger.info("Getting archived tasks by assignee: {}", assigneeId);
+        
+        return ResponseEntity.ok(taskArchiveService.findByAssigneeId(assigneeId, page, size).getContent());
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export tasks", description = "Stream every task as NDJSON (default) or CSV")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Export format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportService.ExportFormat exportFormat = TaskExportService.ExportFormat.fromParameter(format);
+        logger.info("Exporting tasks as {}", exportFormat);
+        
+        StreamingResponseBody body = out -> taskExportService.exportTasks(exportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+            .body(body);
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes", description = "Server-Sent Events feed of task.created, task.updated, " +
+            "task.deleted and task.removed events, optionally filtered. Reconnect with Last-Event-ID to resume; " +
+            "a resync event means the client must reload its tasks")
+    public ResponseEntity<SseEmitter> streamTasks(
+            @Parameter(description = "Only changes to tasks with this status") @RequestParam(required = false) Task.TaskStatus status,
+            @Parameter(description = "Only changes to tasks assigned to this user") @RequestParam(required = false) UUID assigneeId,
+            @Parameter(description = "Id of the last event received, to resume after it")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = taskChangeFeed.subscribe(status, assigneeId, lastEventId);
+        if (emitter == null) {
+            logger.warn("Rejecting task stream subscription, connection limit reached");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+        return ResponseEntity.ok()
+            // Stops nginx from buffering the stream
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
     }
     
     @GetMapping("/stats/count")
@@ -138,15 +379,66 @@ public class TaskController {
     public ResponseEntity<TaskStats> getTaskStats() {
         logger.info("Getting task statistics");
         
+        Map<Task.TaskStatus, Long> counts = taskStatsService.getStatusCounts();
         TaskStats stats = new TaskStats(
-            taskService.countTasksByStatus(Task.TaskStatus.TODO),
-            taskService.countTasksByStatus(Task.TaskStatus.IN_PROGRESS),
-            taskService.countTasksByStatus(Task.TaskStatus.DONE)
+            counts.get(Task.TaskStatus.TODO),
+            counts.get(Task.TaskStatus.IN_PROGRESS),
+            counts.get(Task.TaskStatus.DONE)
         );
         
         return ResponseEntity.ok(stats);
     }
     
+    @GetMapping("/stats/summary")
+    @Operation(summary = "Get task breakdown", description = "Get task counts by status and by priority")
+    public ResponseEntity<TaskSummary> getTaskSummary() {
+        logger.info("Getting task summary");
+        
+        return ResponseEntity.ok(new TaskSummary(
+            taskStatsService.getStatusCounts(),
+            taskStatsService.getPriorityCounts()
+        ));
+    }
+    
+    @GetMapping("/stats/assignee/{assigneeId}")
+    @Operation(summary = "Get assignee task count", description = "Get the number of tasks assigned to a user")
+    public ResponseEntity<Map<String, Object>> getAssigneeStats(@PathVariable UUID assigneeId) {
+        logger.info("Getting task count for assignee: {}", assigneeId);
+        
+        return ResponseEntity.ok(Map.of(
+            "assigneeId", assigneeId,
+            "count", taskStatsService.getAssigneeCount(assigneeId)
+        ));
+    }
+    
+    // Strong: the version changes with every write to the task
+    private static String etag(Task task) {
+        return "\"" + (task.getVersion() != null ? task.getVersion() : 0) + "\"";
+    }
+    
+    /**
+     * Version named by an If-Match header, or {@code null} for none or {@code *}. A tag that is not
+     * one of ours (including any weak tag, which If-Match never matches) yields a version no task has.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        return -1L;
+    }
+    
+    private ResponseEntity<byte[]> taskList(ResponseEntity.BodyBuilder response, List<?> tasks, Class<?> type, TaskFields fields) {
+        return response.contentType(MediaType.APPLICATION_JSON).body(taskListWriter.write(tasks, type, fields));
+    }
+    
     public static class TaskStats {
         private long todoCount;
         private long inProgressCount;
@@ -164,4 +456,19 @@ public class TaskController {
         public long getDoneCount() { return doneCount; }
         public long getTotalCount() { return todoCount + inProgressCount + doneCount; }
     }
+    
+    public static class TaskSummary {
+        private Map<Task.TaskStatus, Long> byStatus;
+        private Map<Task.TaskPriority, Long> byPriority;
+        
+        public TaskSummary(Map<Task.TaskStatus, Long> byStatus, Map<Task.TaskPriority, Long> byPriority) {
+            this.byStatus = byStatus;
+            this.byPriority = byPriority;
+        }
+        
+        // Getters
+        public Map<Task.TaskStatus, Long> getByStatus() { return byStatus; }
+        public Map<Task.TaskPriority, Long> getByPriority() { return byPriority; }
+        public long getTotalCount() { return byStatus.values().stream().mapToLong(Long::longValue).sum(); }
+    }
 }
\ No newline at end of file
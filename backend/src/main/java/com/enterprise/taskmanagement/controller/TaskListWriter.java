@@ -0,0 +1,73 @@
+package com.enterprise.taskmanagement.controller;
+
+import com.enterprise.taskmanagement.dto.TaskFields;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the task list responses with an {@link ObjectWriter} per element type and fieldset,
+ * built on first use: the list serializer is resolved once rather than on every response, and a
+ * sparse fieldset is a property filter of that writer rather than a copy of each task. There are
+ * at most two element types times 2^8 fieldsets ({@code id} is always in), so the cache needs no
+ * bound.
+ */
+@Component
+public class TaskListWriter {
+
+    private static final String FIELDS_FILTER = "taskFields";
+
+    @JsonFilter(FIELDS_FILTER)
+    private interface FieldsFilterMixIn {}
+
+    private final ObjectMapper objectMapper;
+
+    // Same configuration, but tasks go through the fields filter; only for filtered writers
+    private final ObjectMapper filteringMapper;
+
+    private final Map<String, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public TaskListWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.filteringMapper = objectMapper.copy()
+            .addMixIn(Task.class, FieldsFilterMixIn.class)
+            .addMixIn(TaskListItem.class, FieldsFilterMixIn.class);
+    }
+
+    /**
+     * JSON array of {@code tasks}, which are {@link Task}s or {@link TaskListItem}s as given by
+     * {@code type}, with only the properties in {@code fields}.
+     */
+    public byte[] write(List<?> tasks, Class<?> type, TaskFields fields) {
+        ObjectWriter writer = writers.computeIfAbsent(type.getSimpleName() + ':' + fields, key -> writerFor(type, fields));
+        try {
+            return writer.writeValueAsBytes(tasks);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Task list could not be serialized", e);
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type, TaskFields fields) {
+        if (fields.isAll()) {
+            return objectMapper.writerFor(listOf(objectMapper, type));
+        }
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+            .addFilter(FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields.getNames()));
+        return filteringMapper.writerFor(listOf(filteringMapper, type)).with(filters);
+    }
+
+    private static JavaType listOf(ObjectMapper mapper, Class<?> type) {
+        return mapper.getTypeFactory().constructCollectionType(List.class, type);
+    }
+}
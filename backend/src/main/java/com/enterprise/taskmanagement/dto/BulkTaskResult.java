@@ -0,0 +1,50 @@
+package com.enterprise.taskmanagement.dto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk request, one entry per submitted item in submission order.
+ */
+public class BulkTaskResult {
+    
+    private final List<ItemResult> results;
+    
+    public BulkTaskResult(ItemResult[] results) {
+        this.results = Arrays.asList(results);
+    }
+    
+    // Getters
+    public List<ItemResult> getResults() { return results; }
+    public long getSucceeded() { return results.stream().filter(r -> r.getOutcome() != Outcome.FAILED).count(); }
+    public long getFailed() { return results.stream().filter(r -> r.getOutcome() == Outcome.FAILED).count(); }
+    
+    public enum Outcome {
+        CREATED, UPDATED, DELETED, FAILED
+    }
+    
+    public static class ItemResult {
+        private final int index;
+        private final UUID id;
+        private final Outcome outcome;
+        private final String error;
+        
+        public ItemResult(int index, UUID id, Outcome outcome, String error) {
+            this.index = index;
+            this.id = id;
+            this.outcome = outcome;
+            this.error = error;
+        }
+        
+        public static ItemResult failed(int index, UUID id, String error) {
+            return new ItemResult(index, id, Outcome.FAILED, error);
+        }
+        
+        // Getters
+        public int getIndex() { return index; }
+        public UUID getId() { return id; }
+        public Outcome getOutcome() { return outcome; }
+        public String getError() { return error; }
+    }
+}
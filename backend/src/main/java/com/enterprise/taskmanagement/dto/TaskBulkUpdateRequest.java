@@ -0,0 +1,22 @@
+package com.enterprise.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public class TaskBulkUpdateRequest extends TaskUpdateRequest {
+    
+    @NotNull(message = "Id is required")
+    private UUID id;
+    
+    // Constructors
+    public TaskBulkUpdateRequest() {}
+    
+    public TaskBulkUpdateRequest(UUID id) {
+        this.id = id;
+    }
+    
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+}
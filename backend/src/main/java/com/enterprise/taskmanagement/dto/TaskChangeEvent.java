@@ -0,0 +1,31 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data of a task change sent on the {@code /tasks/stream} feed. {@code task} holds the id, version
+ * and the fields the change carries: every field for a created task, the changed fields plus
+ * status and assignee for an updated one. It is absent for deletions and removals from a filtered
+ * view.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeEvent {
+
+    private final String type;
+    private final UUID taskId;
+    private final Map<String, Object> task;
+
+    public TaskChangeEvent(String type, UUID taskId, Map<String, Object> task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    // Getters
+    public String getType() { return type; }
+    public UUID getTaskId() { return taskId; }
+    public Map<String, Object> getTask() { return task; }
+}
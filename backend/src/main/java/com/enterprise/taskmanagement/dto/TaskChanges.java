@@ -0,0 +1,33 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tasks created or updated, and ids of tasks deleted, after a point in time. Pass {@code since}
+ * back as the next request's {@code since}; {@code hasMore} means the next request will return
+ * more changes straight away.
+ */
+public class TaskChanges {
+    
+    private final List<Task> tasks;
+    private final List<UUID> deletedIds;
+    private final LocalDateTime since;
+    private final boolean hasMore;
+    
+    public TaskChanges(List<Task> tasks, List<UUID> deletedIds, LocalDateTime since, boolean hasMore) {
+        this.tasks = tasks;
+        this.deletedIds = deletedIds;
+        this.since = since;
+        this.hasMore = hasMore;
+    }
+    
+    // Getters
+    public List<Task> getTasks() { return tasks; }
+    public List<UUID> getDeletedIds() { return deletedIds; }
+    public LocalDateTime getSince() { return since; }
+    public boolean isHasMore() { return hasMore; }
+}
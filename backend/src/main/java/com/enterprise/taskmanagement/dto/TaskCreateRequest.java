@@ -31,6 +31,17 @@ public class TaskCreateRequest {
         this.assigneeId = assigneeId;
     }
     
+    // New task with the defaults applied for omitted status and priority
+    public Task toTask() {
+        return new Task(
+            title,
+            description,
+            status != null ? status : Task.TaskStatus.TODO,
+            priority != null ? priority : Task.TaskPriority.MEDIUM,
+            assigneeId
+        );
+    }
+    
     // Getters and Setters
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -0,0 +1,140 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A change to one task as published on the task-events topic. A created event carries every field;
+ * an updated event carries the fields that changed, plus status and assignee, which consumers
+ * filter and route by, and their values before the change when it moved them; a deleted event
+ * carries none. {@code version} is the task's version after the change, so consumers can discard
+ * an event they have already applied.
+ */
+public final class TaskEvent {
+
+    public enum Type {
+        CREATED("task.created"), UPDATED("task.updated"), DELETED("task.deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() { return eventName; }
+    }
+
+    // Ordinals are bit positions in the encoded field mask: append only
+    public enum Field {
+        TITLE, DESCRIPTION, STATUS, PRIORITY, ASSIGNEE_ID, CREATED_AT, PREVIOUS_STATUS, PREVIOUS_ASSIGNEE_ID
+    }
+
+    private final Type type;
+    private final UUID taskId;
+    private final Long version;
+    private final LocalDateTime occurredAt;
+    private final Set<Field> fields;
+    // Holds the values of the task's fields above; the others are unset
+    private final Task values;
+    // Holds the status and assignee the PREVIOUS_ fields carry
+    private final Task previous;
+
+    public TaskEvent(Type type, UUID taskId, Long version, LocalDateTime occurredAt, Set<Field> fields, Task values) {
+        this(type, taskId, version, occurredAt, fields, values, new Task());
+    }
+
+    public TaskEvent(Type type, UUID taskId, Long version, LocalDateTime occurredAt, Set<Field> fields, Task values,
+                     Task previous) {
+        this.type = type;
+        this.taskId = taskId;
+        this.version = version;
+        this.occurredAt = occurredAt;
+        this.fields = Collections.unmodifiableSet(fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields));
+        this.values = values;
+        this.previous = previous;
+    }
+
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(Type.CREATED, task.getId(), task.getVersion(), LocalDateTime.now(),
+            EnumSet.range(Field.TITLE, Field.CREATED_AT), new Task(task));
+    }
+
+    public static TaskEvent updated(Task previous, Task current) {
+        Set<Field> changed = EnumSet.noneOf(Field.class);
+        if (!Objects.equals(previous.getTitle(), current.getTitle())) changed.add(Field.TITLE);
+        if (!Objects.equals(previous.getDescription(), current.getDescription())) changed.add(Field.DESCRIPTION);
+        if (previous.getPriority() != current.getPriority()) changed.add(Field.PRIORITY);
+        return updated(previous, current, changed);
+    }
+
+    // For writes that know which fields they touched; previous needs only status and assignee
+    public static TaskEvent updated(Task previous, Task current, Set<Field> changed) {
+        Set<Field> fields = EnumSet.of(Field.STATUS, Field.ASSIGNEE_ID);
+        fields.addAll(changed);
+        if (previous.getStatus() != current.getStatus()) {
+            fields.add(Field.PREVIOUS_STATUS);
+        }
+        if (!Objects.equals(previous.getAssigneeId(), current.getAssigneeId())) {
+            fields.add(Field.PREVIOUS_ASSIGNEE_ID);
+        }
+        Task before = new Task();
+        before.setStatus(previous.getStatus());
+        before.setAssigneeId(previous.getAssigneeId());
+        return new TaskEvent(Type.UPDATED, current.getId(), current.getVersion(), LocalDateTime.now(),
+            fields, new Task(current), before);
+    }
+
+    public static TaskEvent deleted(UUID taskId, Long version) {
+        return new TaskEvent(Type.DELETED, taskId, version, LocalDateTime.now(), EnumSet.noneOf(Field.class), new Task());
+    }
+
+    /**
+     * The id, version and carried fields by their JSON names; a cleared field maps to {@code null}.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", taskId);
+        map.put("version", version);
+        for (Field field : fields) {
+            switch (field) {
+                case TITLE -> map.put("title", values.getTitle());
+                case DESCRIPTION -> map.put("description", values.getDescription());
+                case STATUS -> map.put("status", values.getStatus());
+                case PRIORITY -> map.put("priority", values.getPriority());
+                case ASSIGNEE_ID -> map.put("assigneeId", values.getAssigneeId());
+                case CREATED_AT -> map.put("createdAt", values.getCreatedAt());
+                // For routing only; clients see the task as it is now
+                case PREVIOUS_STATUS, PREVIOUS_ASSIGNEE_ID -> { }
+            }
+        }
+        return map;
+    }
+
+    public boolean has(Field field) { return fields.contains(field); }
+
+    // Before an update; the current value when the update did not change it
+    public Task.TaskStatus getPreviousStatus() {
+        return has(Field.PREVIOUS_STATUS) ? previous.getStatus() : values.getStatus();
+    }
+
+    public UUID getPreviousAssigneeId() {
+        return has(Field.PREVIOUS_ASSIGNEE_ID) ? previous.getAssigneeId() : values.getAssigneeId();
+    }
+
+    // Getters
+    public Type getType() { return type; }
+    public UUID getTaskId() { return taskId; }
+    public Long getVersion() { return version; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public Set<Field> getFields() { return fields; }
+    public Task getValues() { return values; }
+    public Task getPrevious() { return previous; }
+}
@@ -0,0 +1,70 @@
+package com.enterprise.taskmanagement.dto;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sparse fieldset of the task list endpoints ({@code ?fields=title,status}): the task properties
+ * a response includes. {@code id} is always included. Equal sets are equal, so they can key
+ * cached writers.
+ */
+public final class TaskFields {
+
+    public static final String DESCRIPTION = "description";
+
+    // The JSON properties of Task
+    public static final List<String> NAMES = List.of(
+        "id", "title", DESCRIPTION, "status", "priority", "assigneeId", "version", "createdAt", "updatedAt");
+
+    public static final TaskFields ALL = new TaskFields(new TreeSet<>(NAMES));
+
+    private final Set<String> names;
+
+    private TaskFields(Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Parses a comma-separated field list; {@code null} or blank selects every field.
+     *
+     * @throws IllegalArgumentException for a name that is not a task property
+     */
+    public static TaskFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new TreeSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!NAMES.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown task field '" + trimmed + "', expected any of " + NAMES);
+            }
+            names.add(trimmed);
+        }
+        return names.size() == NAMES.size() ? ALL : new TaskFields(names);
+    }
+
+    public Set<String> getNames() { return names; }
+
+    public boolean isAll() { return names.size() == NAMES.size(); }
+
+    // Whether the rows have to be read with their description, as entities
+    public boolean includesDescription() { return names.contains(DESCRIPTION); }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TaskFields && names.equals(((TaskFields) other).names);
+    }
+
+    @Override
+    public int hashCode() { return names.hashCode(); }
+
+    @Override
+    public String toString() { return String.join(",", names); }
+}
@@ -0,0 +1,44 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A task without its description, selected by a constructor expression so the list queries
+ * read neither the TEXT column nor its TOAST chunks and hydrate no entity. Serializes like
+ * {@link Task} minus {@code description}.
+ */
+public final class TaskListItem {
+
+    private final UUID id;
+    private final String title;
+    private final Task.TaskStatus status;
+    private final Task.TaskPriority priority;
+    private final UUID assigneeId;
+    private final Long version;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public TaskListItem(UUID id, String title, Task.TaskStatus status, Task.TaskPriority priority, UUID assigneeId,
+                        Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.assigneeId = assigneeId;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getId() { return id; }
+    public String getTitle() { return title; }
+    public Task.TaskStatus getStatus() { return status; }
+    public Task.TaskPriority getPriority() { return priority; }
+    public UUID getAssigneeId() { return assigneeId; }
+    public Long getVersion() { return version; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,21 @@
+package com.enterprise.taskmanagement.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of tasks, as entities or as {@link TaskListItem}s.
+ */
+public class TaskPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public TaskPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+}
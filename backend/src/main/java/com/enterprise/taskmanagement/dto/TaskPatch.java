@@ -0,0 +1,134 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A JSON Merge Patch (RFC 7396) of a task: members present in the document are changed, members
+ * set to {@code null} are cleared and absent members are left alone. Only description and
+ * assigneeId can be cleared. The changes are kept as entity attribute values so they can be
+ * applied to a loaded task or written by a single UPDATE.
+ */
+public final class TaskPatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final Map<String, Object> changes;
+
+    private TaskPatch(Map<String, Object> changes) {
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    public static TaskPatch from(JsonNode document) {
+        if (document == null || !document.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = document.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "title" -> {
+                    String title = text(field.getKey(), value, false);
+                    if (title.isBlank()) {
+                        throw new IllegalArgumentException("Title must not be blank");
+                    }
+                    changes.put("title", checkLength("Title", title, MAX_TITLE_LENGTH));
+                }
+                case "description" -> changes.put("description",
+                    checkLength("Description", text(field.getKey(), value, true), MAX_DESCRIPTION_LENGTH));
+                case "status" -> changes.put("status",
+                    parse(field.getKey(), text(field.getKey(), value, false), Task.TaskStatus::valueOf));
+                case "priority" -> {
+                    Task.TaskPriority priority =
+                        parse(field.getKey(), text(field.getKey(), value, false), Task.TaskPriority::valueOf);
+                    changes.put("priority", priority);
+                    changes.put("priorityRank", priority.getRank());
+                }
+                case "assigneeId" -> {
+                    String assigneeId = text(field.getKey(), value, true);
+                    changes.put("assigneeId", assigneeId == null ? null : parse(field.getKey(), assigneeId, UUID::fromString));
+                }
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + field.getKey());
+            }
+        }
+        return new TaskPatch(changes);
+    }
+
+    public void applyTo(Task task) {
+        changes.forEach((attribute, value) -> {
+            switch (attribute) {
+                case "title" -> task.setTitle((String) value);
+                case "description" -> task.setDescription((String) value);
+                case "status" -> task.setStatus((Task.TaskStatus) value);
+                case "priority" -> task.setPriority((Task.TaskPriority) value);
+                case "assigneeId" -> task.setAssigneeId((UUID) value);
+                default -> { } // priorityRank follows priority
+            }
+        });
+    }
+
+    /**
+     * Entity attribute values to write, in document order; derived columns such as
+     * {@code priorityRank} are included.
+     */
+    public Map<String, Object> getChanges() { return changes; }
+
+    public boolean isEmpty() { return changes.isEmpty(); }
+
+    public Set<TaskEvent.Field> getEventFields() {
+        Set<TaskEvent.Field> fields = EnumSet.noneOf(TaskEvent.Field.class);
+        changes.keySet().forEach(attribute -> {
+            switch (attribute) {
+                case "title" -> fields.add(TaskEvent.Field.TITLE);
+                case "description" -> fields.add(TaskEvent.Field.DESCRIPTION);
+                case "status" -> fields.add(TaskEvent.Field.STATUS);
+                case "priority" -> fields.add(TaskEvent.Field.PRIORITY);
+                case "assigneeId" -> fields.add(TaskEvent.Field.ASSIGNEE_ID);
+                default -> { }
+            }
+        });
+        return fields;
+    }
+
+    private static String text(String field, JsonNode value, boolean nullable) {
+        if (value.isNull()) {
+            if (!nullable) {
+                throw new IllegalArgumentException("Field cannot be cleared: " + field);
+            }
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("Field must be a string: " + field);
+        }
+        return value.textValue();
+    }
+
+    private static String checkLength(String name, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(name + " must not exceed " + max + " characters");
+        }
+        return value;
+    }
+
+    private static <T> T parse(String field, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + field + ": " + value, e);
+        }
+    }
+}
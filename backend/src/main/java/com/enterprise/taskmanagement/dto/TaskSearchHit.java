@@ -0,0 +1,20 @@
+package com.enterprise.taskmanagement.dto;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+public class TaskSearchHit {
+
+    private final Task task;
+    private final double rank;
+    private final String highlight;
+
+    public TaskSearchHit(Task task, double rank, String highlight) {
+        this.task = task;
+        this.rank = rank;
+        this.highlight = highlight;
+    }
+
+    public Task getTask() { return task; }
+    public double getRank() { return rank; }
+    public String getHighlight() { return highlight; }
+}
@@ -20,6 +20,25 @@ public class TaskUpdateRequest {
     // Constructors
     public TaskUpdateRequest() {}
     
+    // Copies the fields that were supplied; null means "leave unchanged"
+    public void applyTo(Task task) {
+        if (title != null) {
+            task.setTitle(title);
+        }
+        if (description != null) {
+            task.setDescription(description);
+        }
+        if (status != null) {
+            task.setStatus(status);
+        }
+        if (priority != null) {
+            task.setPriority(priority);
+        }
+        if (assigneeId != null) {
+            task.setAssigneeId(assigneeId);
+        }
+    }
+    
     // Getters and Setters
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -0,0 +1,97 @@
+package com.enterprise.taskmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A completed task moved out of {@code tasks} by the archiver, read-only from then on. The table
+ * is indexed for the archive's own lookups only, and on PostgreSQL its text columns are
+ * compressed (see {@code V1__baseline_schema.sql}).
+ */
+@Entity
+@Table(name = "task_archive", indexes = {
+    @Index(name = "idx_archive_assignee", columnList = "assignee_id, created_at"),
+    @Index(name = "idx_archive_archived", columnList = "archived_at")
+})
+public class ArchivedTask implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.TaskPriority priority;
+
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @CreationTimestamp
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    // The id is copied from the task, so without this every save would first look the row up
+    @Transient
+    private boolean isNew;
+
+    // Constructors
+    protected ArchivedTask() {}
+
+    public ArchivedTask(Task task) {
+        this.id = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.status = task.getStatus();
+        this.priority = task.getPriority();
+        this.assigneeId = task.getAssigneeId();
+        this.version = task.getVersion();
+        this.createdAt = task.getCreatedAt();
+        this.updatedAt = task.getUpdatedAt();
+        this.isNew = true;
+    }
+
+    @PostPersist
+    void persisted() {
+        isNew = false;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() { return isNew; }
+
+    // Getters
+    @Override
+    public UUID getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public Task.TaskStatus getStatus() { return status; }
+    public Task.TaskPriority getPriority() { return priority; }
+    public UUID getAssigneeId() { return assigneeId; }
+    public Long getVersion() { return version; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
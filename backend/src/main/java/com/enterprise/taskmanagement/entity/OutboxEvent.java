@@ -0,0 +1,64 @@
+package com.enterprise.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An event waiting to be published. Rows are written in the same transaction as the change they
+ * describe and deleted by the relay once the broker has acknowledged them.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_sequence", columnList = "sequence_number")
+})
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(nullable = false, length = 100)
+    private String topic;
+    
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+    
+    // Encoded when the event is recorded, so later changes to the entity cannot leak into it
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+    
+    // Assigned by the database on insert; the relay publishes in this order. A task's writes hold
+    // its row lock until commit, so each of its events is numbered after the previous one commits
+    @Column(name = "sequence_number", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED BY DEFAULT AS IDENTITY")
+    private Long sequenceNumber;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public OutboxEvent() {}
+    
+    public OutboxEvent(String topic, String eventType, UUID aggregateId, byte[] payload) {
+        this.topic = topic;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+    
+    // Getters
+    public UUID getId() { return id; }
+    public String getTopic() { return topic; }
+    public String getEventType() { return eventType; }
+    public UUID getAggregateId() { return aggregateId; }
+    public byte[] getPayload() { return payload; }
+    public Long getSequenceNumber() { return sequenceNumber; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
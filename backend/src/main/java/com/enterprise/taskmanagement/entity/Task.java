@@ -1,20 +1,35 @@
 package com.enterprise.taskmanagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// The schema is owned by the Flyway migrations in db/migration; these mappings are validated
+// against it. On PostgreSQL the table is range partitioned by created_at (see TaskPartitionManager)
+// and the primary key is (id, created_at); task_ids keeps ids unique across partitions. Writes to
+// a loaded task carry its created_at and touch one partition. Lookups by id alone probe the
+// primary key index of every partition, which the tasks cache keeps off most reads
 @Entity
 @Table(name = "tasks", indexes = {
     @Index(name = "idx_task_status", columnList = "status"),
     @Index(name = "idx_task_assignee", columnList = "assignee_id"),
-    @Index(name = "idx_task_created", columnList = "created_at")
+    @Index(name = "idx_task_created", columnList = "created_at"),
+    @Index(name = "idx_task_updated", columnList = "updated_at"),
+    // Work queue: one index range scan returns an assignee's next tasks already in order
+    @Index(name = "idx_task_queue", columnList = "assignee_id, status, priority_rank DESC, created_at")
 })
+// UPDATE statements list only the columns that changed, so an edit to the title never rewrites the description
+@DynamicUpdate
 public class Task {
     
     @Id
@@ -38,9 +53,22 @@ public class Task {
     @Column(nullable = false)
     private TaskPriority priority = TaskPriority.MEDIUM;
     
+    // Numeric copy of priority so the database sorts HIGH > MEDIUM > LOW; set with priority
+    @JdbcTypeCode(SqlTypes.SMALLINT)
+    @Column(name = "priority_rank", nullable = false)
+    private int priorityRank = TaskPriority.MEDIUM.getRank();
+    
     @Column(name = "assignee_id")
     private UUID assigneeId;
     
+    // Optimistic locking: a write based on a stale read fails instead of overwriting a newer change.
+    // Exposed as the task's ETag; null until the task is first saved
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    // Added to the WHERE clause of this entity's UPDATE and DELETE, so PostgreSQL prunes to one partition
+    @PartitionKey
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -56,10 +84,24 @@ public class Task {
         this.title = title;
         this.description = description;
         this.status = status;
-        this.priority = priority;
+        setPriority(priority);
         this.assigneeId = assigneeId;
     }
     
+    // Detached snapshot, e.g. of the state before an update is merged
+    public Task(Task source) {
+        this.id = source.id;
+        this.title = source.title;
+        this.description = source.description;
+        this.status = source.status;
+        this.priority = source.priority;
+        this.priorityRank = source.priorityRank;
+        this.assigneeId = source.assigneeId;
+        this.version = source.version;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+    }
+    
     // Getters and Setters
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -74,11 +116,20 @@ public class Task {
     public void setStatus(TaskStatus status) { this.status = status; }
     
     public TaskPriority getPriority() { return priority; }
-    public void setPriority(TaskPriority priority) { this.priority = priority; }
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+        this.priorityRank = priority != null ? priority.getRank() : 0;
+    }
+    
+    @JsonIgnore
+    public int getPriorityRank() { return priorityRank; }
     
     public UUID getAssigneeId() { return assigneeId; }
     public void setAssigneeId(UUID assigneeId) { this.assigneeId = assigneeId; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -90,6 +141,15 @@ public class Task {
     }
     
     public enum TaskPriority {
-        LOW, MEDIUM, HIGH
+        LOW(1), MEDIUM(2), HIGH(3);
+        
+        private final int rank;
+        
+        TaskPriority(int rank) {
+            this.rank = rank;
+        }
+        
+        // Stored in priority_rank; higher is more urgent
+        public int getRank() { return rank; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.enterprise.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records that a task was deleted, so clients syncing changes since a point in time learn about
+ * deletions too. Written in the deleting transaction and pruned after {@code app.sync.tombstone-retention}.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+    @Index(name = "idx_tombstone_deleted", columnList = "deleted_at")
+})
+public class TaskTombstone {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+    
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+    
+    // Constructors
+    public TaskTombstone() {}
+    
+    public TaskTombstone(UUID taskId) {
+        this.taskId = taskId;
+    }
+    
+    // Getters
+    public UUID getId() { return id; }
+    public UUID getTaskId() { return taskId; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
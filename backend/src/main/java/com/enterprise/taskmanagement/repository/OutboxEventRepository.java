@@ -0,0 +1,25 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+    
+    // FOR UPDATE SKIP LOCKED (lock timeout -2): concurrent relays on other instances take disjoint batches.
+    // Ordered by the database sequence, not created_at, which comes from each instance's own clock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e ORDER BY e.sequenceNumber")
+    List<OutboxEvent> lockNextBatch(Pageable pageable);
+}
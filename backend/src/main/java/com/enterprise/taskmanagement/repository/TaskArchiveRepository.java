@@ -0,0 +1,19 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.entity.ArchivedTask;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Read path of archived tasks. Nothing in the live task queries touches {@code task_archive}.
+ */
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, UUID> {
+
+    // Range scan of idx_archive_assignee
+    Page<ArchivedTask> findByAssigneeIdOrderByCreatedAtDesc(UUID assigneeId, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskPatchRepository {
+
+    /**
+     * Applies {@code patch} to the task if it is still at {@code version}, in an UPDATE that writes
+     * only the patched columns, bumps the version and sets updated_at. Returns the task before and
+     * after the patch, without reading the row back; empty when the task does not exist or has
+     * changed since. Bypasses the persistence context, so call it before the task
+     * is loaded in the same transaction.
+     */
+    Optional<PatchedTask> patchIfVersion(UUID id, long version, TaskPatch patch);
+
+    // Both unmanaged. On PostgreSQL the previous task carries the replaced status, priority and
+    // assignee, which the counters and events need; its other fields are as patched
+    final class PatchedTask {
+
+        private final Task previous;
+        private final Task patched;
+
+        public PatchedTask(Task previous, Task patched) {
+            this.previous = previous;
+            this.patched = patched;
+        }
+
+        public Task getPrevious() { return previous; }
+        public Task getPatched() { return patched; }
+    }
+}
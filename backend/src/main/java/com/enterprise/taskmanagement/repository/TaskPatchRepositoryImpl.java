@@ -0,0 +1,165 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.util.DatabaseUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * On PostgreSQL, a patch is one {@code UPDATE ... FROM ... RETURNING} round trip: the statement joins
+ * the row to itself as it was before the update, so the new row and the replaced status, priority
+ * and assignee come back together. Other databases (H2 in tests) read the task at the expected
+ * version and then update it, still guarded by the version.
+ */
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+        "title", "title",
+        "description", "description",
+        "status", "status",
+        "priority", "priority",
+        "priorityRank", "priority_rank",
+        "assigneeId", "assignee_id");
+
+    // The self-join reads the row from the statement's snapshot; the version check on t is
+    // re-evaluated against the locked row, so a concurrent write makes it match nothing
+    private static final String POSTGRES_PATCH =
+        "UPDATE tasks t SET %s version = t.version + 1, updated_at = :updatedAt " +
+        "FROM tasks old " +
+        "WHERE old.id = :id AND old.version = :version " +
+        "  AND t.id = old.id AND t.created_at = old.created_at AND t.version = :version " +
+        "RETURNING t.id, t.title, t.description, t.status, t.priority, t.assignee_id, t.version, " +
+        "          t.created_at, t.updated_at, old.status, old.priority, old.assignee_id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public Optional<PatchedTask> patchIfVersion(UUID id, long version, TaskPatch patch) {
+        // Truncated to the column's precision, so the returned task matches the stored row
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return isPostgres()
+            ? patchPostgres(id, version, patch, updatedAt)
+            : patchAfterRead(id, version, patch, updatedAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<PatchedTask> patchPostgres(UUID id, long version, TaskPatch patch, LocalDateTime updatedAt) {
+        StringBuilder assignments = new StringBuilder();
+        patch.getChanges().forEach((attribute, value) -> assignments.append(COLUMNS.get(attribute))
+            .append(value == null ? " = NULL, " : " = :" + attribute + ", "));
+        Query query = entityManager.createNativeQuery(String.format(POSTGRES_PATCH, assignments))
+            .setParameter("id", id)
+            .setParameter("version", version)
+            .setParameter("updatedAt", updatedAt);
+        patch.getChanges().forEach((attribute, value) -> {
+            if (value != null) {
+                query.setParameter(attribute, value instanceof Enum<?> constant ? constant.name() : value);
+            }
+        });
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Task patched = new Task();
+        patched.setId((UUID) row[0]);
+        patched.setTitle((String) row[1]);
+        patched.setDescription((String) row[2]);
+        patched.setStatus(Task.TaskStatus.valueOf((String) row[3]));
+        patched.setPriority(Task.TaskPriority.valueOf((String) row[4]));
+        patched.setAssigneeId((UUID) row[5]);
+        patched.setVersion(((Number) row[6]).longValue());
+        patched.setCreatedAt(toLocalDateTime(row[7]));
+        patched.setUpdatedAt(toLocalDateTime(row[8]));
+
+        // Only what the counters and the event need is returned from the old row
+        Task previous = new Task(patched);
+        previous.setStatus(Task.TaskStatus.valueOf((String) row[9]));
+        previous.setPriority(Task.TaskPriority.valueOf((String) row[10]));
+        previous.setAssigneeId((UUID) row[11]);
+        previous.setVersion(version);
+        return Optional.of(new PatchedTask(previous, patched));
+    }
+
+    private Optional<PatchedTask> patchAfterRead(UUID id, long version, TaskPatch patch, LocalDateTime updatedAt) {
+        List<Task> found = entityManager
+            .createQuery("SELECT t FROM Task t WHERE t.id = :id AND t.version = :version", Task.class)
+            .setParameter("id", id)
+            .setParameter("version", version)
+            .getResultList();
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Task previous = new Task(found.get(0));
+        // The UPDATE below bypasses the persistence context; a managed copy would go stale
+        entityManager.detach(found.get(0));
+        if (!update(id, version, patch, updatedAt)) {
+            return Optional.empty();
+        }
+        Task patched = new Task(previous);
+        patch.applyTo(patched);
+        patched.setVersion(version + 1);
+        patched.setUpdatedAt(updatedAt);
+        return Optional.of(new PatchedTask(previous, patched));
+    }
+
+    private boolean update(UUID id, long version, TaskPatch patch, LocalDateTime updatedAt) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        patch.getChanges().forEach((attribute, value) -> {
+            if (value == null) {
+                clear(update, builder, task.get(attribute));
+            } else {
+                update.set(attribute, value);
+            }
+        });
+        Path<Long> versionPath = task.get("version");
+        update.set(versionPath, builder.sum(versionPath, 1L));
+        update.set(task.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.where(builder.equal(task.get("id"), id), builder.equal(versionPath, version));
+
+        return entityManager.createQuery(update).executeUpdate() == 1;
+    }
+
+    private static <Y> void clear(CriteriaUpdate<Task> update, CriteriaBuilder builder, Path<Y> path) {
+        update.set(path, builder.nullLiteral(path.getJavaType()));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = DatabaseUtils.isPostgres(dataSource);
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -1,41 +1,144 @@
 package com.enterprise.taskmanagement.repository;
 
+import com.enterprise.taskmanagement.dto.TaskListItem;
 import com.enterprise.taskmanagement.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskSearchRepository, TaskPatchRepository {
+    
+    int EXPORT_FETCH_SIZE = 500;
     
     List<Task> findByStatus(Task.TaskStatus status);
     
+    // Newest first, the order the projection serves status lists in
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC, t.id DESC")
+    List<UUID> findIdsByStatus(@Param("status") Task.TaskStatus status);
+    
     List<Task> findByAssigneeId(UUID assigneeId);
     
     List<Task> findByPriority(Task.TaskPriority priority);
     
     Page<Task> findByStatusAndAssigneeId(Task.TaskStatus status, UUID assigneeId, Pageable pageable);
     
+    // Keyset pagination over idx_task_created; id breaks ties between equal timestamps
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT t FROM Task t WHERE t.createdAt < :createdAt " +
+           "OR (t.createdAt = :createdAt AND t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, 
+                             @Param("id") UUID id, 
+                             Pageable pageable);
+    
+    // The list queries again as TaskListItem, for responses that leave out the description
+    String LIST_ITEM = "SELECT new com.enterprise.taskmanagement.dto.TaskListItem(" +
+        "t.id, t.title, t.status, t.priority, t.assigneeId, t.version, t.createdAt, t.updatedAt) FROM Task t ";
+    
+    @Query(LIST_ITEM + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskListItem> findFirstItemPage(Pageable pageable);
+    
+    @Query(LIST_ITEM + "WHERE t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskListItem> findItemPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+    
+    @Query(value = LIST_ITEM, countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskListItem> findAllItems(Pageable pageable);
+    
+    @Query(LIST_ITEM + "WHERE t.assigneeId = :assigneeId AND t.status = :status " +
+           "ORDER BY t.priorityRank DESC, t.createdAt ASC")
+    List<TaskListItem> findTopItemsByAssigneeAndStatus(@Param("assigneeId") UUID assigneeId,
+                                                      @Param("status") Task.TaskStatus status,
+                                                      Pageable pageable);
+    
+    // deleteAllInBatch matches on id alone and would search every partition; the created_at values
+    // limit the delete to the partitions holding these tasks
+    default void deleteAllInBatchByPartition(Collection<Task> tasks) {
+        if (!tasks.isEmpty()) {
+            deleteInPartitions(tasks.stream().map(Task::getId).toList(),
+                               tasks.stream().map(Task::getCreatedAt).distinct().toList());
+        }
+    }
+    
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.createdAt IN :createdAts")
+    int deleteInPartitions(@Param("ids") Collection<UUID> ids, @Param("createdAts") Collection<LocalDateTime> createdAts);
+    
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+    
+    @Query("SELECT MAX(t.updatedAt) FROM Task t")
+    LocalDateTime findLatestUpdatedAt();
+    
+    // Delta sync over idx_task_updated; id gives a stable order between equal timestamps
+    @Query("SELECT t FROM Task t WHERE t.updatedAt > :since AND t.updatedAt <= :until ORDER BY t.updatedAt, t.id")
+    List<Task> findUpdatedBetween(@Param("since") LocalDateTime since,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable pageable);
+    
+    List<Task> findByUpdatedAt(LocalDateTime updatedAt);
+    
     @Query("SELECT t FROM Task t WHERE t.createdAt BETWEEN :startDate AND :endDate")
     List<Task> findTasksCreatedBetween(@Param("startDate") LocalDateTime startDate, 
                                       @Param("endDate") LocalDateTime endDate);
     
+    // Must be consumed inside a transaction; the fetch size keeps the JDBC driver on a server-side cursor
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt")
+    Stream<Task> streamAllForExport();
+    
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
     long countByStatus(@Param("status") Task.TaskStatus status);
     
-    @Query("SELECT t FROM Task t WHERE t.title LIKE %:keyword% OR t.description LIKE %:keyword%")
-    List<Task> searchByKeyword(@Param("keyword") String keyword);
+    // One pass per dimension instead of a COUNT per value; rows are [value, count]
+    @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
+    List<Object[]> countGroupedByStatus();
+    
+    @Query("SELECT t.priority, COUNT(t) FROM Task t GROUP BY t.priority")
+    List<Object[]> countGroupedByPriority();
+    
+    @Query("SELECT t.assigneeId, COUNT(t) FROM Task t WHERE t.assigneeId IS NOT NULL GROUP BY t.assigneeId")
+    List<Object[]> countGroupedByAssignee();
+    
+    long countByAssigneeId(UUID assigneeId);
+    
+    // Oldest first over idx_task_updated; SKIP LOCKED (lock timeout -2) so concurrent archivers take disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.updatedAt < :cutoff ORDER BY t.updatedAt, t.id")
+    List<Task> lockArchivable(@Param("status") Task.TaskStatus status,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              Pageable pageable);
     
-    @Query(value = "SELECT * FROM tasks WHERE assignee_id = :assigneeId AND status = :status " +
-                   "ORDER BY priority DESC, created_at ASC LIMIT :limit", nativeQuery = true)
-    List<Task> findTopTasksByAssigneeAndStatus(@Param("assigneeId") UUID assigneeId, 
-                                              @Param("status") String status, 
-                                              @Param("limit") int limit);
+    // Range scan of idx_task_queue: most urgent first, oldest first within a priority
+    @Query("SELECT t FROM Task t WHERE t.assigneeId = :assigneeId AND t.status = :status " +
+           "ORDER BY t.priorityRank DESC, t.createdAt ASC")
+    List<Task> findTopTasksByAssigneeAndStatus(@Param("assigneeId") UUID assigneeId,
+                                              @Param("status") Task.TaskStatus status,
+                                              Pageable pageable);
 }
\ No newline at end of file
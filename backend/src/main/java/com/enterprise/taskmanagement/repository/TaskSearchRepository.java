@@ -0,0 +1,14 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
+
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    /**
+     * Full-text search over title and description, best match first. Highlights are HTML-escaped
+     * apart from the {@code <mark>} tags around matches.
+     */
+    List<TaskSearchHit> search(String query, long offset, int limit);
+}
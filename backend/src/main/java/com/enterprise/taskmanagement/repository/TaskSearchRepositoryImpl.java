@@ -0,0 +1,156 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.util.DatabaseUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.util.HtmlUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * On PostgreSQL, searches the {@code search_vector} tsvector column through its GIN index, ranks with
+ * ts_rank and highlights with ts_headline. Other databases (H2 in tests) fall back to a
+ * case-insensitive LIKE scan with the same result shape.
+ *
+ * <p>Titles and descriptions are user input, so a highlight is HTML-escaped before its
+ * {@code <mark>} tags are added. ts_headline marks matches with control characters stripped from
+ * the text beforehand, which are turned into the tags after escaping.
+ */
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    static final String HIGHLIGHT_START = "<mark>";
+    static final String HIGHLIGHT_STOP = "</mark>";
+
+    // Placeholders for ts_headline's selection markers; removed from the text, so only it writes them
+    private static final char MARK_START = '\u0002';
+    private static final char MARK_STOP = '\u0003';
+    private static final String HEADLINE_OPTIONS =
+        "StartSel=" + MARK_START + ", StopSel=" + MARK_STOP + ", MaxFragments=2, MaxWords=20, MinWords=5";
+
+    // Rank and page on the index first, then build headlines for the page's rows only
+    private static final String POSTGRES_SEARCH =
+        "SELECT hit.id, hit.rank, ts_headline('english', " +
+        "       translate(coalesce(hit.title, '') || ' ' || coalesce(hit.description, ''), :markers, ''), " +
+        "       hit.query, :options) " +
+        "FROM (SELECT t.id, t.title, t.description, q.query, ts_rank(t.search_vector, q.query) AS rank " +
+        "      FROM tasks t, websearch_to_tsquery('english', :query) AS q(query) " +
+        "      WHERE t.search_vector @@ q.query " +
+        "      ORDER BY rank DESC, t.id " +
+        "      LIMIT :limit OFFSET :offset) hit " +
+        "ORDER BY hit.rank DESC, hit.id";
+
+    private static final int HIGHLIGHT_CONTEXT = 40;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public List<TaskSearchHit> search(String query, long offset, int limit) {
+        return isPostgres() ? searchPostgres(query, offset, limit) : searchLike(query, offset, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskSearchHit> searchPostgres(String query, long offset, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(POSTGRES_SEARCH)
+            .setParameter("query", query)
+            .setParameter("markers", "" + MARK_START + MARK_STOP)
+            .setParameter("options", HEADLINE_OPTIONS)
+            .setParameter("limit", limit)
+            .setParameter("offset", offset)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = rows.stream().map(row -> (UUID) row[0]).collect(Collectors.toList());
+        Map<UUID, Task> tasks = entityManager.createQuery("SELECT t FROM Task t WHERE t.id IN :ids", Task.class)
+            .setParameter("ids", ids)
+            .getResultStream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Task task = tasks.get((UUID) row[0]);
+            if (task != null) {
+                hits.add(new TaskSearchHit(task, ((Number) row[1]).doubleValue(), markHeadline((String) row[2])));
+            }
+        }
+        return hits;
+    }
+
+    private List<TaskSearchHit> searchLike(String query, long offset, int limit) {
+        if (offset > Integer.MAX_VALUE) {
+            return List.of();
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Task> tasks = entityManager.createQuery(
+                "SELECT t FROM Task t WHERE LOWER(t.title) LIKE :pattern OR LOWER(t.description) LIKE :pattern " +
+                "ORDER BY CASE WHEN LOWER(t.title) LIKE :pattern THEN 0 ELSE 1 END, t.createdAt DESC, t.id", Task.class)
+            .setParameter("pattern", "%" + escapeLike(needle) + "%")
+            .setFirstResult((int) offset)
+            .setMaxResults(limit)
+            .getResultList();
+
+        List<TaskSearchHit> hits = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            boolean inTitle = task.getTitle() != null && task.getTitle().toLowerCase(Locale.ROOT).contains(needle);
+            String source = inTitle ? task.getTitle() : task.getDescription();
+            hits.add(new TaskSearchHit(task, inTitle ? 1.0 : 0.5, highlight(source, needle)));
+        }
+        return hits;
+    }
+
+    static String highlight(String text, String needle) {
+        if (text == null) {
+            return null;
+        }
+        int start = text.toLowerCase(Locale.ROOT).indexOf(needle);
+        if (start < 0) {
+            return HtmlUtils.htmlEscape(text);
+        }
+        int end = start + needle.length();
+        int from = Math.max(0, start - HIGHLIGHT_CONTEXT);
+        int to = Math.min(text.length(), end + HIGHLIGHT_CONTEXT);
+        return (from > 0 ? "..." : "") + HtmlUtils.htmlEscape(text.substring(from, start))
+            + HIGHLIGHT_START + HtmlUtils.htmlEscape(text.substring(start, end)) + HIGHLIGHT_STOP
+            + HtmlUtils.htmlEscape(text.substring(end, to)) + (to < text.length() ? "..." : "");
+    }
+
+    // Escapes a ts_headline result, then turns its placeholders into the highlight tags
+    static String markHeadline(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+            .replace(String.valueOf(MARK_START), HIGHLIGHT_START)
+            .replace(String.valueOf(MARK_STOP), HIGHLIGHT_STOP);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = DatabaseUtils.isPostgres(dataSource);
+            postgres = result;
+        }
+        return result;
+    }
+}
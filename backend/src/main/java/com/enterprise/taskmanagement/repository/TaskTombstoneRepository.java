@@ -0,0 +1,28 @@
+package com.enterprise.taskmanagement.repository;
+
+import com.enterprise.taskmanagement.entity.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+    
+    @Query("SELECT MAX(t.deletedAt) FROM TaskTombstone t")
+    LocalDateTime findLatestDeletedAt();
+    
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.deletedAt > :since AND t.deletedAt <= :until ORDER BY t.deletedAt")
+    List<UUID> findTaskIdsDeletedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+    
+    // The newest tombstone is kept: it holds up the collection version until the next write
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff " +
+           "AND t.deletedAt < (SELECT MAX(x.deletedAt) FROM TaskTombstone x)")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
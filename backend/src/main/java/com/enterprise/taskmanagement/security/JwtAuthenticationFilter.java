@@ -1,65 +1,165 @@
 package com.enterprise.taskmanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
 
+/**
+ * Authenticates requests carrying a bearer token. The signing key and parser are built once; each
+ * token is verified at most once and the result cached under its SHA-256 digest (the raw token is
+ * never kept) until the earlier of its {@code exp} claim and {@code app.security.token-cache.time-to-live}.
+ * Rejected tokens are not cached.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
     @Value("${jwt.secret:mySecretKey}")
     private String jwtSecret;
 
+    @Value("${app.security.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    @Value("${app.security.token-cache.time-to-live:5m}")
+    private Duration tokenCacheTimeToLive;
+
+    private JwtParser parser;
+
+    private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        try {
+            parser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8))).build();
+        } catch (WeakKeyException e) {
+            // Same outcome as before, when every verification failed on the weak key: all tokens are rejected
+            logger.error("jwt.secret is shorter than 256 bits, bearer tokens will be rejected: {}", e.getMessage());
+            parser = null;
+        }
+        verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(tokenCacheMaximumSize)
+            .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+                    long ttl = tokenCacheTimeToLive.toNanos();
+                    if (token.expiresAtMillis != Long.MAX_VALUE) {
+                        ttl = Math.min(ttl, Duration.ofMillis(token.expiresAtMillis - System.currentTimeMillis()).toNanos());
+                    }
+                    return Math.max(0, ttl);
+                }
+
+                @Override
+                public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
-        
+
         String token = getTokenFromRequest(request);
-        
-        if (token != null && validateToken(token)) {
-            String username = getUsernameFromToken(token);
-            UsernamePasswordAuthenticationToken authentication = 
-                new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        if (token != null) {
+            VerifiedToken verified = verify(token);
+            if (verified != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(verified.username, null, List.of());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
-        
+
         filterChain.doFilter(request, response);
     }
 
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+        if (bearerToken != null && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
         }
         return null;
     }
 
-    private boolean validateToken(String token) {
+    /**
+     * The verified subject of {@code token}, or {@code null} when the token is invalid or expired.
+     */
+    VerifiedToken verify(String token) {
+        if (parser == null) {
+            return null;
+        }
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        // Caffeine evicts lazily; never honour an entry past the token's own expiry
+        if (cached != null && cached.expiresAtMillis > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected bearer token: {}", e.getMessage());
+            return null;
+        }
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+            expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    private static ByteBuffer digest(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
-    private String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return claims.getSubject();
+    static final class VerifiedToken {
+        final String username;
+        final long expiresAtMillis;
+
+        VerifiedToken(String username, long expiresAtMillis) {
+            this.username = username;
+            this.expiresAtMillis = expiresAtMillis;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.enterprise.taskmanagement.security;
+
+import com.enterprise.taskmanagement.util.ConnectionLimitingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive limit on concurrent API requests. Requests beyond the limit are refused at once rather
+ * than queueing for a database connection until the pool times out. Every {@code adjust-interval}
+ * the limit is cut by {@code backoff-ratio} while the average connection acquire time exceeds
+ * {@code target-acquire-time} or callers are queued for connections, and raised by one otherwise,
+ * between {@code min-concurrency} and {@code max-concurrency}.
+ */
+@Component
+public class LoadShedder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadShedder.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${app.load-shedding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.load-shedding.max-concurrency:200}")
+    private int maxConcurrency;
+
+    @Value("${app.load-shedding.min-concurrency:10}")
+    private int minConcurrency;
+
+    @Value("${app.load-shedding.target-acquire-time:PT0.1S}")
+    private Duration targetAcquireTime;
+
+    @Value("${app.load-shedding.max-pending-connections:10}")
+    private int maxPendingConnections;
+
+    @Value("${app.load-shedding.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${app.load-shedding.retry-after:PT1S}")
+    private Duration retryAfter;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    private double lastAcquireNanos;
+    private long lastAcquireCount;
+
+    private Counter shed;
+
+    @PostConstruct
+    public void init() {
+        limit = maxConcurrency;
+        shed = Counter.builder("api.requests.rejected")
+            .description("Requests refused at the API edge")
+            .tag("reason", "overloaded")
+            .register(meterRegistry);
+        Gauge.builder("api.requests.in_flight", inFlight, AtomicInteger::get)
+            .description("API requests currently being processed")
+            .register(meterRegistry);
+        Gauge.builder("api.load_shedding.limit", this, LoadShedder::getLimit)
+            .description("Current adaptive limit on concurrent API requests")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Admits a request, or returns {@code false} when the concurrency limit is reached. Every
+     * admitted request must be followed by {@link #exit()}.
+     */
+    public boolean tryEnter() {
+        int current = inFlight.incrementAndGet();
+        if (enabled && current > limit) {
+            inFlight.decrementAndGet();
+            shed.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.load-shedding.adjust-interval:PT1S}")
+    public void adjust() {
+        double totalNanos = 0;
+        long count = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            count += timer.count();
+        }
+        double averageNanos = count > lastAcquireCount
+            ? (totalNanos - lastAcquireNanos) / (count - lastAcquireCount) : 0;
+        lastAcquireNanos = totalNanos;
+        lastAcquireCount = count;
+
+        double pending = meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+            .mapToDouble(Gauge::value).sum();
+        if (dataSource instanceof ConnectionLimitingDataSource limiting) {
+            pending += limiting.getQueueLength();
+        }
+
+        int previous = limit;
+        if (averageNanos > targetAcquireTime.toNanos() || pending > maxPendingConnections) {
+            limit = Math.max(minConcurrency, (int) (previous * backoffRatio));
+        } else {
+            limit = Math.min(maxConcurrency, previous + 1);
+        }
+        if (limit < previous) {
+            logger.debug("Concurrency limit lowered to {} (acquire {} ms, {} waiting for connections)",
+                limit, String.format("%.1f", averageNanos / 1_000_000d), (long) pending);
+        }
+    }
+}
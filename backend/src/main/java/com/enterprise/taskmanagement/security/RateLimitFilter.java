@@ -0,0 +1,84 @@
+package com.enterprise.taskmanagement.security;
+
+import com.enterprise.taskmanagement.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Guards the task API: a caller over its rate limit gets 429 and a request arriving while the
+ * concurrency limit is reached gets 503, both with {@code Retry-After}. Runs in the security chain
+ * after {@link JwtAuthenticationFilter}, so callers are keyed by the token subject; unauthenticated
+ * requests are keyed by remote address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String GUARDED_PATH = "/api/tasks";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, LoadShedder loadShedder, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(GUARDED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long waitNanos = rateLimiter.tryAcquire(callerKey(request));
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS,
+                (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND,
+                "Rate limit exceeded");
+            return;
+        }
+        if (!loadShedder.tryEnter()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, Math.max(1, loadShedder.getRetryAfter().toSeconds()),
+                "Server is busy");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.exit();
+        }
+    }
+
+    private static String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                        String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            new ErrorResponse(status.getReasonPhrase(), message, LocalDateTime.now()));
+    }
+}
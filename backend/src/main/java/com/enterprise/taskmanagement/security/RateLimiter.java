@@ -0,0 +1,195 @@
+package com.enterprise.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per caller, refilled at {@code app.rate-limit.requests-per-second} up to
+ * {@code app.rate-limit.burst}. Decisions are local; every {@code sync-interval} the requests each
+ * instance admitted are added to a per-window counter in Redis, and what other instances admitted
+ * since the last sync is taken out of the local bucket. The shared limit is therefore enforced
+ * within one sync interval, without a Redis call per request. Without Redis each instance limits
+ * on its own.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    static final String KEY_PREFIX = "rate-limit:";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.requests-per-second:20}")
+    private double requestsPerSecond;
+
+    @Value("${app.rate-limit.burst:40}")
+    private int burst;
+
+    @Value("${app.rate-limit.shared:true}")
+    private boolean shared;
+
+    @Value("${app.rate-limit.window:PT1M}")
+    private Duration window;
+
+    @Value("${app.rate-limit.idle-timeout:PT10M}")
+    private Duration idleTimeout;
+
+    LongSupplier clock = System::nanoTime;
+
+    private Cache<String, Bucket> buckets;
+
+    private Counter rejected;
+
+    @PostConstruct
+    public void init() {
+        buckets = Caffeine.newBuilder()
+            .expireAfterAccess(idleTimeout)
+            .build();
+        rejected = Counter.builder("api.requests.rejected")
+            .description("Requests refused at the API edge")
+            .tag("reason", "rate_limited")
+            .register(meterRegistry);
+        Gauge.builder("api.rate_limit.buckets", buckets, Cache::estimatedSize)
+            .description("Callers with a live rate limit bucket")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for {@code key}. Returns 0 when the request may proceed, otherwise how many
+     * nanoseconds until a token becomes available.
+     */
+    public long tryAcquire(String key) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos = buckets.get(key, k -> new Bucket(burst, clock.getAsLong()))
+            .tryConsume(clock.getAsLong(), burst, requestsPerSecond / 1_000_000_000d);
+        if (waitNanos > 0) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sync-interval:PT1S}")
+    public void sync() {
+        if (!enabled || !shared) {
+            return;
+        }
+        long windowId = System.currentTimeMillis() / window.toMillis();
+        List<String> keys = new ArrayList<>();
+        List<Bucket> pending = new ArrayList<>();
+        List<Long> sent = new ArrayList<>();
+        for (Map.Entry<String, Bucket> entry : buckets.asMap().entrySet()) {
+            long consumed = entry.getValue().takeUnsynced();
+            if (consumed > 0) {
+                keys.add(KEY_PREFIX + entry.getKey() + ":" + windowId);
+                pending.add(entry.getValue());
+                sent.add(consumed);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (int i = 0; i < keys.size(); i++) {
+                        operations.opsForValue().increment(keys.get(i), sent.get(i));
+                        operations.expire(keys.get(i), window.multipliedBy(2));
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // Keep the counts for the next attempt; meanwhile each instance limits on its own
+            logger.debug("Could not share rate limit counters: {}", e.getMessage());
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).restoreUnsynced(sent.get(i));
+            }
+            return;
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).applyShared(windowId, ((Number) results.get(2 * i)).longValue(), sent.get(i));
+        }
+    }
+
+    static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private long unsynced;
+        private long windowId = -1;
+        private long windowTotal;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryConsume(long now, double capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                unsynced++;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        synchronized long takeUnsynced() {
+            long consumed = unsynced;
+            unsynced = 0;
+            return consumed;
+        }
+
+        synchronized void restoreUnsynced(long consumed) {
+            unsynced += consumed;
+        }
+
+        /**
+         * {@code total} is the shared count for {@code windowId} after adding the {@code sent}
+         * requests admitted here; the rest of the increase since the last sync came from other
+         * instances and is charged to this bucket.
+         */
+        synchronized void applyShared(long windowId, long total, long sent) {
+            long others = this.windowId == windowId ? total - windowTotal - sent : total - sent;
+            this.windowId = windowId;
+            this.windowTotal = total;
+            if (others > 0) {
+                tokens = Math.max(0, tokens - others);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.OutboxEvent;
+import com.enterprise.taskmanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox to Kafka in the background. Each batch is claimed with SKIP LOCKED, sent
+ * without waiting between records, and only rows the broker acknowledged are deleted; the rest
+ * stay for the next poll. Records are keyed by task id, so all events of a task land on one
+ * partition in order. Delivery is at-least-once: a crash between the ack and the commit
+ * republishes the batch, so consumers must tolerate duplicates (the event version identifies them).
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.outbox.relay.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${app.outbox.relay.send-timeout:PT10S}")
+    private Duration sendTimeout;
+    
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:PT0.5S}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                Integer result = transactionTemplate.execute(status -> publishBatch());
+                published = result != null ? result : 0;
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay failed, will retry: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Publishes one batch inside the caller's transaction and returns how many rows were removed.
+     * A full batch means more rows are probably waiting.
+     */
+    int publishBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            long start = System.nanoTime();
+            CompletableFuture<SendResult<String, byte[]>> send =
+                kafkaTemplate.send(event.getTopic(), event.getAggregateId().toString(), event.getPayload());
+            // From send() to the broker's acknowledgement, including time queued in the producer
+            send.whenComplete((result, failure) -> Timer.builder("outbox.relay.send")
+                .description("Kafka send latency of outbox events, until acknowledged or failed")
+                .tag("topic", event.getTopic())
+                .tag("outcome", failure == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            sends.add(send);
+        }
+        
+        List<OutboxEvent> acknowledged = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged.add(batch.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("Outbox event {} not published: {}", batch.get(i).getId(), e.getMessage());
+            }
+        }
+        
+        outboxEventRepository.deleteAllInBatch(acknowledged);
+        logger.debug("Published {} of {} outbox events", acknowledged.size(), batch.size());
+        return acknowledged.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.OutboxEvent;
+import com.enterprise.taskmanagement.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records events in the outbox table. MANDATORY propagation: an event only exists if the change it
+ * describes commits, and never without it. {@link OutboxRelay} publishes the rows afterwards.
+ */
+@Service
+public class OutboxService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, TaskEvent event) {
+        String eventType = event.getType().getEventName();
+        outboxEventRepository.save(new OutboxEvent(topic, eventType, event.getTaskId(), TaskEventCodec.encode(event)));
+        logger.debug("Recorded {} event for {} in outbox", eventType, event.getTaskId());
+    }
+}
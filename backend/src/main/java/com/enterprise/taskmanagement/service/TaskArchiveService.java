@@ -0,0 +1,134 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.ArchivedTask;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.entity.TaskTombstone;
+import com.enterprise.taskmanagement.repository.TaskArchiveRepository;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Moves DONE tasks that have not changed for {@code app.archive.after} from {@code tasks} to
+ * {@code task_archive}, keeping the live table, its indexes and its partitions small. Batches are
+ * claimed with SKIP LOCKED, so instances can run concurrently, and each is copied and deleted in
+ * one transaction.
+ *
+ * <p>To everything reading live tasks an archived task is gone: it leaves a tombstone for syncing
+ * clients, a {@code task.deleted} event, cache evictions and counter updates, exactly as a
+ * delete does. It stays readable through the archive read path.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TaskCacheWriter taskCacheWriter;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.after:P90D}")
+    private Duration archiveAfter;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Transactional(readOnly = true)
+    public Optional<ArchivedTask> findById(UUID id) {
+        return taskArchiveRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArchivedTask> findByAssigneeId(UUID assigneeId, int page, int size) {
+        return taskArchiveRepository.findByAssigneeIdOrderByCreatedAtDesc(assigneeId,
+            PageRequest.of(page, Math.min(size, TaskService.MAX_PAGE_SIZE)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.interval:PT1H}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        // Fixed for the run, so tasks completing meanwhile do not keep it going
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        long total = 0;
+        try {
+            int archived;
+            do {
+                Integer result = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                archived = result != null ? result : 0;
+                meterRegistry.counter("task.archive.tasks").increment(archived);
+                total += archived;
+            } while (archived == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Task archiving failed, will retry: {}", e.getMessage());
+        }
+        if (total > 0) {
+            logger.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+    }
+
+    /**
+     * Archives one batch inside the caller's transaction and returns its size. A full batch means
+     * more tasks are probably due.
+     */
+    int archiveBatch(LocalDateTime cutoff) {
+        List<Task> batch = taskRepository.lockArchivable(Task.TaskStatus.DONE, cutoff, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<UUID> ids = batch.stream().map(Task::getId).collect(Collectors.toList());
+        taskArchiveRepository.saveAll(batch.stream().map(ArchivedTask::new).collect(Collectors.toList()));
+        taskRepository.deleteAllInBatchByPartition(batch);
+        taskTombstoneRepository.saveAll(ids.stream().map(TaskTombstone::new).collect(Collectors.toList()));
+        for (Task task : batch) {
+            outboxService.append(TaskService.TASK_EVENTS_TOPIC, TaskEvent.deleted(task.getId(), task.getVersion()));
+        }
+
+        taskCacheWriter.tasksChanged(ids, List.of(Task.TaskStatus.DONE));
+        taskStatsService.tasksDeleted(batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,276 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.BulkTaskResult;
+import com.enterprise.taskmanagement.dto.BulkTaskResult.ItemResult;
+import com.enterprise.taskmanagement.dto.BulkTaskResult.Outcome;
+import com.enterprise.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.entity.TaskTombstone;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk create, update and delete for imports. Items are validated one by one, then written in
+ * chunks of {@code app.bulk.chunk-size}, each chunk in its own transaction so Hibernate can
+ * batch the statements (ids are generated client side, so inserts are batchable). A chunk that
+ * fails is retried item by item, which confines a bad row to its own result instead of rolling
+ * back the import. Events, cache evictions and counter updates are issued once per chunk.
+ */
+@Service
+// Shares TaskService's meter, told apart by the class tag; one description, since the meter has one
+@Timed(value = "task.service", description = "Task operations: TaskService reads and writes, TaskBulkService bulk create, update and delete")
+public class TaskBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBulkService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TaskCacheWriter taskCacheWriter;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.bulk.max-items:10000}")
+    private int maxItems;
+
+    public BulkTaskResult createTasks(List<TaskCreateRequest> requests) {
+        checkSize(requests);
+        logger.info("Bulk creating {} tasks", requests.size());
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        List<Integer> valid = validate(requests, index -> null, results);
+        processInChunks(valid, chunk -> createChunk(requests, chunk), index -> null, results);
+        return new BulkTaskResult(results);
+    }
+
+    public BulkTaskResult updateTasks(List<TaskBulkUpdateRequest> requests) {
+        checkSize(requests);
+        logger.info("Bulk updating {} tasks", requests.size());
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        IntFunction<UUID> idOf = index -> requests.get(index).getId();
+        List<Integer> valid = rejectRepeatedIds(validate(requests, idOf, results), idOf, results);
+        processInChunks(valid, chunk -> updateChunk(requests, chunk), idOf, results);
+        return new BulkTaskResult(results);
+    }
+
+    public BulkTaskResult deleteTasks(List<UUID> ids) {
+        checkSize(ids);
+        logger.info("Bulk deleting {} tasks", ids.size());
+
+        ItemResult[] results = new ItemResult[ids.size()];
+        List<Integer> valid = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = ItemResult.failed(i, null, "Id is required");
+            } else {
+                valid.add(i);
+            }
+        }
+        processInChunks(valid, chunk -> deleteChunk(ids, chunk), ids::get, results);
+        return new BulkTaskResult(results);
+    }
+
+    private List<ItemResult> createChunk(List<TaskCreateRequest> requests, List<Integer> chunk) {
+        List<Task> tasks = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            tasks.add(requests.get(index).toTask());
+        }
+        taskRepository.saveAll(tasks);
+
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Task task = tasks.get(i);
+            outboxService.append(TaskService.TASK_EVENTS_TOPIC, TaskEvent.created(task));
+            results.add(new ItemResult(chunk.get(i), task.getId(), Outcome.CREATED, null));
+        }
+        taskCacheWriter.tasksChanged(List.of(), tasks.stream().map(Task::getStatus).collect(Collectors.toList()));
+        taskStatsService.tasksCreated(tasks);
+        return results;
+    }
+
+    private List<ItemResult> updateChunk(List<TaskBulkUpdateRequest> requests, List<Integer> chunk) {
+        Map<UUID, Task> tasks = findAllById(chunk.stream().map(index -> requests.get(index).getId()).collect(Collectors.toList()));
+
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        List<Task> previous = new ArrayList<>(chunk.size());
+        List<Task> updated = new ArrayList<>(chunk.size());
+        List<Task.TaskStatus> statuses = new ArrayList<>();
+        for (Integer index : chunk) {
+            TaskBulkUpdateRequest request = requests.get(index);
+            Task task = tasks.get(request.getId());
+            if (task == null) {
+                results.add(ItemResult.failed(index, request.getId(), "Task not found with id: " + request.getId()));
+                continue;
+            }
+            previous.add(new Task(task));
+            statuses.add(task.getStatus());
+            request.applyTo(task);
+            statuses.add(task.getStatus());
+            updated.add(task);
+            results.add(new ItemResult(index, task.getId(), Outcome.UPDATED, null));
+        }
+        taskRepository.saveAll(updated);
+        // Flushed so the events carry the versions these updates produced
+        taskRepository.flush();
+        for (int i = 0; i < updated.size(); i++) {
+            outboxService.append(TaskService.TASK_EVENTS_TOPIC, TaskEvent.updated(previous.get(i), updated.get(i)));
+        }
+
+        taskCacheWriter.tasksChanged(updated.stream().map(Task::getId).collect(Collectors.toList()), statuses);
+        taskStatsService.tasksUpdated(previous, updated);
+        return results;
+    }
+
+    private List<ItemResult> deleteChunk(List<UUID> ids, List<Integer> chunk) {
+        Map<UUID, Task> tasks = findAllById(chunk.stream().map(ids::get).collect(Collectors.toList()));
+
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        List<Task> deleted = new ArrayList<>(chunk.size());
+        Set<UUID> seen = new HashSet<>();
+        for (Integer index : chunk) {
+            UUID id = ids.get(index);
+            Task task = tasks.get(id);
+            // A repeated id has already been deleted by its first occurrence
+            if (task == null || !seen.add(id)) {
+                results.add(ItemResult.failed(index, id, "Task not found with id: " + id));
+                continue;
+            }
+            deleted.add(task);
+            outboxService.append(TaskService.TASK_EVENTS_TOPIC, TaskEvent.deleted(id, task.getVersion()));
+            results.add(new ItemResult(index, id, Outcome.DELETED, null));
+        }
+        // One DELETE for the chunk instead of a select-then-delete per entity
+        taskRepository.deleteAllInBatchByPartition(deleted);
+        taskTombstoneRepository.saveAll(seen.stream().map(TaskTombstone::new).collect(Collectors.toList()));
+
+        taskCacheWriter.tasksChanged(seen, deleted.stream().map(Task::getStatus).collect(Collectors.toList()));
+        taskStatsService.tasksDeleted(deleted);
+        return results;
+    }
+
+    /**
+     * Runs {@code work} for each chunk of item indices in its own transaction. When a chunk fails
+     * (typically at flush, where the offending row is not identifiable) its items are retried one
+     * per transaction so only the bad ones end up FAILED.
+     */
+    private void processInChunks(List<Integer> indices, Function<List<Integer>, List<ItemResult>> work,
+                                 IntFunction<UUID> idOf, ItemResult[] results) {
+        for (int from = 0; from < indices.size(); from += chunkSize) {
+            List<Integer> chunk = indices.subList(from, Math.min(from + chunkSize, indices.size()));
+            try {
+                store(transactionTemplate.execute(status -> work.apply(chunk)), results);
+            } catch (RuntimeException e) {
+                logger.warn("Bulk chunk of {} items failed, retrying items individually: {}", chunk.size(), e.getMessage());
+                for (Integer index : chunk) {
+                    try {
+                        store(transactionTemplate.execute(status -> work.apply(List.of(index))), results);
+                    } catch (RuntimeException itemError) {
+                        results[index] = ItemResult.failed(index, idOf.apply(index),
+                            NestedExceptionUtils.getMostSpecificCause(itemError).getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private <T> List<Integer> validate(List<T> requests, IntFunction<UUID> idOf, ItemResult[] results) {
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            T request = requests.get(i);
+            if (request == null) {
+                results[i] = ItemResult.failed(i, null, "Item is required");
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                valid.add(i);
+            } else {
+                String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+                results[i] = ItemResult.failed(i, idOf.apply(i), message);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Fails every item whose id an earlier item already has. Within a chunk each would otherwise
+     * be applied to the same entity and counted as its own status change and event.
+     */
+    private static List<Integer> rejectRepeatedIds(List<Integer> indices, IntFunction<UUID> idOf, ItemResult[] results) {
+        List<Integer> unique = new ArrayList<>(indices.size());
+        Set<UUID> seen = new HashSet<>();
+        for (Integer index : indices) {
+            UUID id = idOf.apply(index);
+            if (seen.add(id)) {
+                unique.add(index);
+            } else {
+                results[index] = ItemResult.failed(index, id, "Duplicate id in bulk request: " + id);
+            }
+        }
+        return unique;
+    }
+
+    private Map<UUID, Task> findAllById(List<UUID> ids) {
+        return taskRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private static void store(List<ItemResult> chunkResults, ItemResult[] results) {
+        if (chunkResults != null) {
+            chunkResults.forEach(result -> results[result.getIndex()] = result);
+        }
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Bulk request exceeds the limit of " + maxItems + " items");
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskChangeEvent;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes task changes from the task-events topic to Server-Sent Events subscribers on this
+ * instance, so clients no longer re-poll the task list.
+ *
+ * <p>Each subscriber may filter by status and assignee and only receives matching deltas; an update
+ * that takes a task out of a filtered view is sent as {@code task.removed}. Events are queued per
+ * connection in a buffer of {@code app.stream.buffer-size} and written by the task executor, so a
+ * slow client never holds up the Kafka listener or other clients. A client that falls a full buffer
+ * behind gets a {@code resync} event and is disconnected; it should reload and reconnect.
+ *
+ * <p>Event ids are the connection's Kafka position, {@code partition:offset} pairs. Every instance
+ * consumes the whole topic, so the position is meaningful on any of them: a client reconnecting
+ * with {@code Last-Event-ID} is replayed what it missed from the last {@code app.stream.replay-size}
+ * events, or told to {@code resync} when those no longer cover the gap.
+ */
+@Service
+public class TaskChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    public static final String REMOVED_EVENT = "task.removed";
+    public static final String RESYNC_EVENT = "resync";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private Executor executor;
+
+    @Value("${app.stream.max-connections:1000}")
+    private int maxConnections;
+
+    @Value("${app.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.stream.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${app.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this, together with every subscription's position
+    private final Deque<Change> recent = new ArrayDeque<>();
+    private final Map<Integer, Long> firstOffsets = new HashMap<>();
+    private final Map<Integer, Long> lastOffsets = new HashMap<>();
+    private final Map<Integer, Long> trimmedOffsets = new HashMap<>();
+
+    /**
+     * Opens a feed of the changes matching {@code status} and {@code assigneeId} (either may be
+     * {@code null}), resuming after {@code lastEventId} when given. Returns {@code null} when this
+     * instance already serves {@code app.stream.max-connections} subscribers.
+     */
+    public SseEmitter subscribe(Task.TaskStatus status, UUID assigneeId, String lastEventId) {
+        if (subscriptions.size() >= maxConnections) {
+            return null;
+        }
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(emitter, status, assigneeId, bufferSize);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(e -> close(subscription));
+
+        synchronized (this) {
+            Map<Integer, Long> resumeFrom = lastEventId != null && !lastEventId.isBlank() ? parsePosition(lastEventId) : null;
+            if (resumeFrom != null && canReplayFrom(resumeFrom)) {
+                subscription.position.putAll(resumeFrom);
+                for (Change change : recent) {
+                    if (change.offset > resumeFrom.get(change.partition)) {
+                        subscription.offer(change);
+                    }
+                }
+            } else {
+                subscription.position.putAll(lastOffsets);
+                if (lastEventId != null && !lastEventId.isBlank()) {
+                    logger.debug("Cannot resume task feed from {}, asking client to resync", lastEventId);
+                    subscription.queue.offer(resync(subscription, "resume-unavailable"));
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        schedule(subscription);
+        return emitter;
+    }
+
+    /**
+     * Called for every record of the task-events topic, in offset order per partition.
+     */
+    public void publish(int partition, long offset, byte[] payload) {
+        Change change;
+        try {
+            change = toChange(partition, offset, payload);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            logger.warn("Skipping unreadable task event at {}:{}: {}", partition, offset, e.getMessage());
+            change = null;
+        }
+
+        synchronized (this) {
+            firstOffsets.putIfAbsent(partition, offset);
+            lastOffsets.put(partition, offset);
+            if (change == null) {
+                return;
+            }
+            recent.addLast(change);
+            if (recent.size() > replaySize) {
+                Change dropped = recent.removeFirst();
+                trimmedOffsets.put(dropped.partition, dropped.offset);
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(change);
+            }
+        }
+        subscriptions.forEach(this::schedule);
+    }
+
+    public int getConnectionCount() {
+        return subscriptions.size();
+    }
+
+    // Proxies drop connections that stay silent; a comment keeps them open without waking the client
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.queue.isEmpty()) {
+                subscription.queue.offer(SseEmitter.event().comment("keep-alive"));
+                schedule(subscription);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(this::close);
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private Change toChange(int partition, long offset, byte[] payload) throws JsonProcessingException {
+        TaskEvent event = TaskEventCodec.decode(payload);
+        String type = event.getType().getEventName();
+        if (event.getType() == TaskEvent.Type.DELETED) {
+            return new Change(partition, offset, event, data(type, event.getTaskId(), null), null);
+        }
+        // Serialized once here rather than once per subscriber
+        return new Change(partition, offset, event, data(type, event.getTaskId(), event.toMap()),
+            data(REMOVED_EVENT, event.getTaskId(), null));
+    }
+
+    private String data(String type, UUID taskId, Map<String, Object> task) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(new TaskChangeEvent(type, taskId, task));
+    }
+
+    /**
+     * Whether every event after {@code position} is still in {@code recent}. A partition the client
+     * has no offset for, or whose retained events start after its offset, leaves a possible gap.
+     */
+    private boolean canReplayFrom(Map<Integer, Long> position) {
+        for (Map.Entry<Integer, Long> head : lastOffsets.entrySet()) {
+            Long offset = position.get(head.getKey());
+            if (offset == null) {
+                return false;
+            }
+            if (offset >= head.getValue()) {
+                continue;
+            }
+            Long trimmed = trimmedOffsets.get(head.getKey());
+            if (firstOffsets.get(head.getKey()) > offset + 1 || (trimmed != null && trimmed > offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.closed || subscription.queue.isEmpty() && !subscription.overflowed) {
+            return;
+        }
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.scheduled.set(false);
+                close(subscription);
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscription.closed && (event = subscription.queue.poll()) != null) {
+                subscription.emitter.send(event);
+            }
+            if (subscription.overflowed && !subscription.closed) {
+                SseEmitter.SseEventBuilder resync;
+                synchronized (this) {
+                    resync = resync(subscription, "buffer-overflow");
+                }
+                subscription.emitter.send(resync);
+                close(subscription);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone away
+            logger.debug("Task feed subscriber disconnected: {}", e.getMessage());
+            close(subscription);
+        } finally {
+            subscription.scheduled.set(false);
+        }
+        schedule(subscription);
+    }
+
+    private void close(Subscription subscription) {
+        subscription.closed = true;
+        subscription.queue.clear();
+        subscriptions.remove(subscription);
+        try {
+            subscription.emitter.complete();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to complete task feed response: {}", e.getMessage());
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder resync(Subscription subscription, String reason) {
+        return SseEmitter.event()
+            .id(formatPosition(subscription.position))
+            .name(RESYNC_EVENT)
+            .data(Map.of("reason", reason), MediaType.APPLICATION_JSON);
+    }
+
+    static String formatPosition(Map<Integer, Long> position) {
+        return position.entrySet().stream()
+            .map(entry -> entry.getKey() + ":" + entry.getValue())
+            .collect(Collectors.joining(","));
+    }
+
+    static Map<Integer, Long> parsePosition(String eventId) {
+        Map<Integer, Long> position = new TreeMap<>();
+        try {
+            for (String part : eventId.split(",")) {
+                int separator = part.indexOf(':');
+                position.put(Integer.parseInt(part.substring(0, separator).trim()),
+                    Long.parseLong(part.substring(separator + 1).trim()));
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return position;
+    }
+
+    private static final class Change {
+        final int partition;
+        final long offset;
+        final TaskEvent event;
+        final String data;
+        final String removedData;
+
+        Change(int partition, long offset, TaskEvent event, String data, String removedData) {
+            this.partition = partition;
+            this.offset = offset;
+            this.event = event;
+            this.data = data;
+            this.removedData = removedData;
+        }
+    }
+
+    private static final class Subscription {
+        final SseEmitter emitter;
+        final Task.TaskStatus status;
+        final UUID assigneeId;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final Map<Integer, Long> position = new TreeMap<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean overflowed;
+        volatile boolean closed;
+
+        Subscription(SseEmitter emitter, Task.TaskStatus status, UUID assigneeId, int bufferSize) {
+            this.emitter = emitter;
+            this.status = status;
+            this.assigneeId = assigneeId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        // Called with the feed's lock held
+        void offer(Change change) {
+            position.put(change.partition, change.offset);
+            if (overflowed || closed) {
+                return;
+            }
+            String name;
+            String data;
+            TaskEvent.Type type = change.event.getType();
+            if (type == TaskEvent.Type.DELETED || matches(change.event.getValues())) {
+                // Deletions carry no status or assignee; ids are cheap, so every subscriber gets them
+                name = type.getEventName();
+                data = change.data;
+            } else if (type == TaskEvent.Type.UPDATED && isFiltered()
+                    && matches(change.event.getPreviousStatus(), change.event.getPreviousAssigneeId())) {
+                // The update moved the task out of this view
+                name = REMOVED_EVENT;
+                data = change.removedData;
+            } else {
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .id(formatPosition(position))
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON);
+            if (!queue.offer(event)) {
+                overflowed = true;
+                queue.clear();
+            }
+        }
+
+        // Created and updated events always carry status and assignee
+        private boolean matches(Task task) {
+            return matches(task.getStatus(), task.getAssigneeId());
+        }
+
+        private boolean matches(Task.TaskStatus taskStatus, UUID taskAssigneeId) {
+            return (status == null || status == taskStatus)
+                && (assigneeId == null || assigneeId.equals(taskAssigneeId));
+        }
+
+        private boolean isFiltered() {
+            return status != null || assigneeId != null;
+        }
+    }
+}
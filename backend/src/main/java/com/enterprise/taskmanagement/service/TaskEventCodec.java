@@ -0,0 +1,169 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.dto.TaskEvent.Field;
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.enterprise.taskmanagement.util.BinaryEncoding.fromEpochNanos;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readString;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readUuid;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readVarInt;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.readVarLong;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.toEpochNanos;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeString;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeUuid;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeVarInt;
+import static com.enterprise.taskmanagement.util.BinaryEncoding.writeVarLong;
+
+/**
+ * Binary encoding of {@link TaskEvent}s, the value format of the task-events topic.
+ *
+ * <p>Layout: magic, format version and event type bytes; the task id as two longs; the version as a
+ * varint (plus one, zero meaning none); the time of the change as epoch nanos (UTC); a varint mask
+ * of the fields carried and a varint mask of those carried as {@code null}; then the non-null
+ * values in {@link Field} order, encoded as in the cache format (strings as varint length and
+ * UTF-8, enums as ordinal bytes). Compression is left to the producer, which compresses whole
+ * batches.
+ *
+ * <p>Consumers reject versions newer than theirs. Adding a field or reordering enum constants
+ * requires a new {@link #FORMAT_VERSION}, and consumers must be upgraded before producers. Version 2
+ * added the previous status and assignee; version 1 events are still read.
+ */
+public final class TaskEventCodec {
+
+    static final byte MAGIC = (byte) 0xE7;
+    static final byte FORMAT_VERSION = 2;
+    private static final byte OLDEST_FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private static final TaskEvent.Type[] TYPES = TaskEvent.Type.values();
+    private static final Field[] FIELDS = Field.values();
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+    private static final Task.TaskPriority[] PRIORITIES = Task.TaskPriority.values();
+
+    private TaskEventCodec() {}
+
+    public static byte[] encode(TaskEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(event.getType().ordinal());
+            writeUuid(out, event.getTaskId());
+            writeVarLong(out, event.getVersion() != null ? event.getVersion() + 1 : 0);
+            out.writeLong(toEpochNanos(event.getOccurredAt()));
+
+            int carried = 0;
+            int nulls = 0;
+            for (Field field : event.getFields()) {
+                carried |= 1 << field.ordinal();
+                if (value(event, field) == null) {
+                    nulls |= 1 << field.ordinal();
+                }
+            }
+            writeVarInt(out, carried);
+            writeVarInt(out, nulls);
+            for (Field field : event.getFields()) {
+                Object value = value(event, field);
+                if (value != null) {
+                    writeValue(out, field, value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code bytes} is not an event in a known format version
+     */
+    public static TaskEvent decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a task event");
+        }
+        if (bytes[1] < OLDEST_FORMAT_VERSION || bytes[1] > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported task event format version " + bytes[1]);
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            TaskEvent.Type type = TYPES[bytes[2]];
+            UUID taskId = readUuid(in);
+            long version = readVarLong(in);
+            LocalDateTime occurredAt = fromEpochNanos(in.getLong());
+            int carried = readVarInt(in);
+            int nulls = readVarInt(in);
+            if (carried >>> FIELDS.length != 0) {
+                throw new IllegalArgumentException("Unknown task event fields: " + Integer.toBinaryString(carried));
+            }
+
+            Set<Field> fields = EnumSet.noneOf(Field.class);
+            Task values = new Task();
+            values.setId(taskId);
+            values.setPriority(null);
+            values.setStatus(null);
+            Task previous = new Task();
+            for (Field field : FIELDS) {
+                int bit = 1 << field.ordinal();
+                if ((carried & bit) != 0) {
+                    fields.add(field);
+                    if ((nulls & bit) == 0) {
+                        readValue(in, field, values, previous);
+                    }
+                }
+            }
+            return new TaskEvent(type, taskId, version > 0 ? version - 1 : null, occurredAt, fields, values, previous);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated task event", e);
+        }
+    }
+
+    private static Object value(TaskEvent event, Field field) {
+        Task values = event.getValues();
+        return switch (field) {
+            case TITLE -> values.getTitle();
+            case DESCRIPTION -> values.getDescription();
+            case STATUS -> values.getStatus();
+            case PRIORITY -> values.getPriority();
+            case ASSIGNEE_ID -> values.getAssigneeId();
+            case CREATED_AT -> values.getCreatedAt();
+            case PREVIOUS_STATUS -> event.getPrevious().getStatus();
+            case PREVIOUS_ASSIGNEE_ID -> event.getPrevious().getAssigneeId();
+        };
+    }
+
+    private static void writeValue(DataOutputStream out, Field field, Object value) throws IOException {
+        switch (field) {
+            case TITLE, DESCRIPTION -> writeString(out, (String) value);
+            case STATUS, PRIORITY, PREVIOUS_STATUS -> out.writeByte(((Enum<?>) value).ordinal());
+            case ASSIGNEE_ID, PREVIOUS_ASSIGNEE_ID -> writeUuid(out, (UUID) value);
+            case CREATED_AT -> out.writeLong(toEpochNanos((LocalDateTime) value));
+        }
+    }
+
+    private static void readValue(ByteBuffer in, Field field, Task values, Task previous) {
+        switch (field) {
+            case TITLE -> values.setTitle(readString(in));
+            case DESCRIPTION -> values.setDescription(readString(in));
+            case STATUS -> values.setStatus(STATUSES[in.get()]);
+            case PRIORITY -> values.setPriority(PRIORITIES[in.get()]);
+            case ASSIGNEE_ID -> values.setAssigneeId(readUuid(in));
+            case CREATED_AT -> values.setCreatedAt(fromEpochNanos(in.getLong()));
+            case PREVIOUS_STATUS -> previous.setStatus(STATUSES[in.get()]);
+            case PREVIOUS_ASSIGNEE_ID -> previous.setAssigneeId(readUuid(in));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.enterprise.taskmanagement.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds the task-events topic into {@link TaskChangeFeed}. Every instance must see every event for
+ * its own stream subscribers, so each one joins a consumer group of its own, named after
+ * {@code app.stream.instance-id} (the host name, so the pod name on Kubernetes) so a restart
+ * rejoins its group rather than leaving one behind. It still starts at the live end of the topic
+ * whatever the group committed; earlier events are not needed because clients load the list
+ * before streaming.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stream.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskEventListener extends AbstractConsumerSeekAware {
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @KafkaListener(
+        topics = TaskService.TASK_EVENTS_TOPIC,
+        groupId = "task-stream-${app.stream.instance-id}",
+        properties = {
+            "auto.offset.reset=latest",
+            "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+            "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+        })
+    public void onTaskEvent(ConsumerRecord<String, byte[]> record) {
+        taskChangeFeed.publish(record.partition(), record.offset(), record.value());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        callback.seekToEnd(assignments.keySet());
+    }
+}
@@ -0,0 +1,146 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task to an output stream row by row. Rows come from a server-side cursor and are
+ * detached once written, so heap use does not grow with the size of the table.
+ */
+@Service
+public class TaskExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskExportService.class);
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,assigneeId,createdAt,updatedAt";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportTasks(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Exporting tasks as {}", format);
+
+        long count;
+        try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+            count = format == ExportFormat.CSV ? writeCsv(tasks.iterator(), out) : writeNdjson(tasks.iterator(), out);
+        }
+
+        logger.info("Exported {} tasks as {}", count, format);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<Task> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        SequenceWriter writer = objectMapper.writerFor(Task.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n")
+            .writeValues(out);
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(task);
+            entityManager.detach(task);
+            if (++count % TaskRepository.EXPORT_FETCH_SIZE == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(csv(task.getId()));
+            writer.write(',');
+            writer.write(csv(task.getTitle()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(csv(task.getStatus()));
+            writer.write(',');
+            writer.write(csv(task.getPriority()));
+            writer.write(',');
+            writer.write(csv(task.getAssigneeId()));
+            writer.write(',');
+            writer.write(csv(task.getCreatedAt()));
+            writer.write(',');
+            writer.write(csv(task.getUpdatedAt()));
+            writer.write('\n');
+            entityManager.detach(task);
+            if (++count % TaskRepository.EXPORT_FETCH_SIZE == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static ExportFormat fromParameter(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+}
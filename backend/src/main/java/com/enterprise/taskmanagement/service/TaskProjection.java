@@ -0,0 +1,547 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read model of the task lists by status (the board columns) and by assignee, kept in Redis from
+ * the task-events topic by {@link TaskProjectionListener} so those lists are served without
+ * querying PostgreSQL. Each task is a hash of its fields; each status and assignee has a set of
+ * task ids.
+ *
+ * <p>Changes are applied by a Lua script, atomically per task and idempotently: every event
+ * carries the version it produced, so a duplicate or replay at or below the projected version is
+ * ignored. An update that does not directly follow the projected version, or of a task the model
+ * does not hold, is reported as a gap for the caller to repair from the database. Deleted tasks
+ * leave a tombstone for {@code app.projection.tombstone-ttl} so a late create cannot revive them.
+ *
+ * <p>The model lives in numbered generations. A rebuild, run on first start, when
+ * {@code task-projection:rebuild} is set or after events were lost, fills a new generation from a
+ * PostgreSQL snapshot while events are applied to both, then moves reads over and drops the old
+ * one. The topic's retention therefore need not cover the whole history.
+ *
+ * <p>Reads return {@code null}, and callers query the database, until a generation is built,
+ * while any partition is more than {@code app.projection.max-lag} events behind, when no consumer
+ * has reported within {@code app.projection.heartbeat-timeout}, or when Redis fails. Otherwise
+ * they trail writes by the consumer lag, typically well under a second.
+ */
+@Service
+public class TaskProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskProjection.class);
+
+    enum Outcome { APPLIED, STALE, GAP }
+
+    static final String KEY_PREFIX = "task-projection:";
+    static final String GENERATION_KEY = KEY_PREFIX + "generation";
+    static final String BUILDING_KEY = KEY_PREFIX + "building";
+    static final String REBUILD_REQUEST_KEY = KEY_PREFIX + "rebuild";
+    static final String REPLAY_REQUEST_KEY = KEY_PREFIX + "replay";
+    static final String LAG_KEY = KEY_PREFIX + "lag";
+    static final String HEARTBEAT_KEY = KEY_PREFIX + "heartbeat";
+    private static final String GENERATION_SEQUENCE_KEY = KEY_PREFIX + "generation-sequence";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+
+    private static final int SNAPSHOT_PAGE_SIZE = 500;
+    // Passed as the version of a delete that carries none, so it applies whatever is projected
+    private static final long ANY_VERSION = Long.MAX_VALUE;
+    // Returned by the apply script when the task's status or assignee changed after the caller read them
+    private static final long MOVED = -2;
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> APPLY_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/task-projection-apply.lua"), List.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // Read-write, so snapshots and repairs read the primary rather than a lagging replica
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private Executor executor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.projection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.projection.reads-enabled:true}")
+    private boolean readsEnabled;
+
+    @Value("${app.projection.max-lag:1000}")
+    private long maxLag;
+
+    @Value("${app.projection.check-interval:PT1S}")
+    private Duration checkInterval;
+
+    @Value("${app.projection.heartbeat-timeout:PT30S}")
+    private Duration heartbeatTimeout;
+
+    @Value("${app.projection.tombstone-ttl:P1D}")
+    private Duration tombstoneTtl;
+
+    @Value("${app.projection.rebuild-timeout:PT30M}")
+    private Duration rebuildTimeout;
+
+    // Refreshed every check-interval; the serving generation and the one being rebuilt, if any
+    private volatile String generation;
+    private volatile String building;
+    private volatile boolean available;
+    private volatile boolean rebuildNeeded;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("task.projection.available", () -> available ? 1 : 0)
+            .description("Whether task list reads on this instance are served from the projection")
+            .register(meterRegistry);
+    }
+
+    public List<Task> findByStatus(Task.TaskStatus status) {
+        return read("status:" + status.name(), task -> task.getStatus() == status);
+    }
+
+    public List<Task> findByAssigneeId(UUID assigneeId) {
+        return read("assignee:" + assigneeId, task -> assigneeId.equals(task.getAssigneeId()));
+    }
+
+    /**
+     * Applies {@code event} to the serving generation and to the one being rebuilt. Adds the
+     * statuses whose lists changed to {@code changedStatuses}.
+     *
+     * @return {@link Outcome#GAP} if any generation needs the task repaired
+     */
+    Outcome apply(TaskEvent event, Set<Task.TaskStatus> changedStatuses) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> cleared = new ArrayList<>();
+        if (event.getType() != TaskEvent.Type.DELETED) {
+            fields(event, values, cleared);
+        }
+        String kind = event.getType().name();
+        long version = event.getVersion() != null ? event.getVersion() : ANY_VERSION;
+        return applyToAll(kind, event.getTaskId(), version, values, cleared, changedStatuses);
+    }
+
+    /**
+     * Replaces the projected task with its state in the database, unless the projection already
+     * holds that version or a later one. A task that no longer exists is removed.
+     */
+    Outcome repair(UUID taskId, Set<Task.TaskStatus> changedStatuses) {
+        Task task = transactionTemplate.execute(status -> taskRepository.findById(taskId).orElse(null));
+        if (task == null) {
+            return applyToAll(TaskEvent.Type.DELETED.name(), taskId, ANY_VERSION, Map.of(), List.of(), changedStatuses);
+        }
+        return applySnapshot(targets(), task, changedStatuses);
+    }
+
+    /**
+     * Lag per partition as last seen by a consumer, also a sign that consumers are alive. Returns
+     * the pending replay request, if any.
+     */
+    String reportLag(Map<Integer, Long> lags) {
+        Map<String, String> fields = new HashMap<>();
+        lags.forEach((partition, lag) -> fields.put(partition.toString(), lag.toString()));
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                if (!fields.isEmpty()) {
+                    operations.opsForHash().putAll(LAG_KEY, fields);
+                }
+                operations.opsForValue().set(HEARTBEAT_KEY, instanceId, heartbeatTimeout);
+                operations.opsForValue().get(REPLAY_REQUEST_KEY);
+                return null;
+            }
+        });
+        return (String) results.get(results.size() - 1);
+    }
+
+    /**
+     * Drops the reported lag of partitions this consumer no longer owns, so a partition left
+     * unassigned, e.g. after the group shrinks, does not hold reads on the database with its last lag.
+     */
+    void forgetLag(Collection<Integer> partitions) {
+        if (!partitions.isEmpty()) {
+            redisTemplate.opsForHash().delete(LAG_KEY, partitions.stream().map(Object::toString).toArray());
+        }
+    }
+
+    // Events could not be applied; the next check starts a rebuild
+    void markRebuildNeeded() {
+        rebuildNeeded = true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.projection.check-interval:PT1S}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> state = redisTemplate.opsForValue()
+                .multiGet(List.of(GENERATION_KEY, BUILDING_KEY, HEARTBEAT_KEY, REBUILD_REQUEST_KEY, REBUILD_LOCK_KEY));
+            generation = state.get(0);
+            building = state.get(1);
+            available = readsEnabled && generation != null && state.get(2) != null && maxLag() <= maxLag;
+            // A generation still building without the lock was left by an instance that died mid-rebuild
+            boolean rebuilding = state.get(4) != null;
+            if (!rebuilding && (building != null || generation == null || state.get(3) != null || rebuildNeeded)) {
+                startRebuild(building);
+            }
+        } catch (DataAccessException e) {
+            available = false;
+            logger.warn("Task projection state unavailable: {}", e.getMessage());
+        }
+    }
+
+    private void startRebuild(String abandoned) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, instanceId, rebuildTimeout);
+        if (Boolean.TRUE.equals(acquired)) {
+            rebuildNeeded = false;
+            executor.execute(() -> rebuild(abandoned));
+        }
+    }
+
+    void rebuild(String abandoned) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String next = null;
+        try {
+            if (abandoned != null) {
+                abandon(abandoned);
+            }
+            redisTemplate.delete(REBUILD_REQUEST_KEY);
+            next = String.valueOf(redisTemplate.opsForValue().increment(GENERATION_SEQUENCE_KEY));
+            redisTemplate.opsForValue().set(BUILDING_KEY, next);
+            logger.info("Rebuilding task projection as generation {}", next);
+            // Every consumer applies events to the new generation from its next check; wait for
+            // that, so a change the snapshot reads too early is still applied by its event
+            Thread.sleep(checkInterval.multipliedBy(2).toMillis());
+
+            long count = snapshot(next);
+
+            String previous = redisTemplate.opsForValue().get(GENERATION_KEY);
+            String built = next;
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public List<Object> execute(RedisOperations operations) {
+                    operations.multi();
+                    operations.opsForValue().set(GENERATION_KEY, built);
+                    operations.delete(BUILDING_KEY);
+                    return operations.exec();
+                }
+            });
+            logger.info("Task projection generation {} built from {} tasks", next, count);
+            if (previous != null) {
+                // Readers and consumers move to the new generation within a check
+                Thread.sleep(checkInterval.multipliedBy(2).toMillis());
+                drop(previous);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("Task projection rebuild failed, will retry: {}", e.getMessage());
+            rebuildNeeded = true;
+            if (next != null) {
+                abandon(next);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("task.projection.rebuild"));
+            releaseRebuildLock();
+        }
+    }
+
+    private void releaseRebuildLock() {
+        try {
+            if (instanceId.equals(redisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                redisTemplate.delete(REBUILD_LOCK_KEY);
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Could not release task projection rebuild lock: {}", e.getMessage());
+        }
+    }
+
+    // Keyset pages, each in a short transaction, rather than one cursor held open for the whole table
+    private long snapshot(String target) {
+        List<String> generations = List.of(target);
+        Set<Task.TaskStatus> ignored = new HashSet<>();
+        long count = 0;
+        List<Task> page = transactionTemplate.execute(status -> taskRepository.findFirstPage(PageRequest.of(0, SNAPSHOT_PAGE_SIZE)));
+        while (page != null && !page.isEmpty()) {
+            for (Task task : page) {
+                applySnapshot(generations, task, ignored);
+            }
+            count += page.size();
+            Task last = page.get(page.size() - 1);
+            page = page.size() < SNAPSHOT_PAGE_SIZE ? null : transactionTemplate.execute(status ->
+                taskRepository.findPageAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, SNAPSHOT_PAGE_SIZE)));
+        }
+        return count;
+    }
+
+    private void abandon(String failed) {
+        try {
+            redisTemplate.delete(BUILDING_KEY);
+            drop(failed);
+        } catch (DataAccessException e) {
+            logger.warn("Could not remove abandoned task projection generation {}: {}", failed, e.getMessage());
+        }
+    }
+
+    private void drop(String dropped) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix(dropped) + "*").count(1000).build();
+        List<String> keys = new ArrayList<>(1000);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == 1000) {
+                    redisTemplate.unlink(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.unlink(keys);
+        }
+        logger.info("Dropped task projection generation {}", dropped);
+    }
+
+    private Outcome applySnapshot(Collection<String> generations, Task task, Set<Task.TaskStatus> changedStatuses) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> cleared = new ArrayList<>();
+        put(values, cleared, "title", task.getTitle());
+        put(values, cleared, "description", task.getDescription());
+        put(values, cleared, "status", task.getStatus());
+        put(values, cleared, "priority", task.getPriority());
+        put(values, cleared, "assigneeId", task.getAssigneeId());
+        put(values, cleared, "createdAt", task.getCreatedAt());
+        put(values, cleared, "updatedAt", task.getUpdatedAt());
+        long version = task.getVersion() != null ? task.getVersion() : 0;
+        return apply(generations, "SNAPSHOT", task.getId(), version, values, cleared, changedStatuses);
+    }
+
+    private Outcome applyToAll(String kind, UUID taskId, long version, Map<String, String> values, List<String> cleared,
+                               Set<Task.TaskStatus> changedStatuses) {
+        return apply(targets(), kind, taskId, version, values, cleared, changedStatuses);
+    }
+
+    private Outcome apply(Collection<String> generations, String kind, UUID taskId, long version,
+                          Map<String, String> values, List<String> cleared, Set<Task.TaskStatus> changedStatuses) {
+        List<String> args = new ArrayList<>(7 + values.size() * 2 + cleared.size());
+        args.add(null);
+        args.add(null);
+        args.add(taskId.toString());
+        args.add(kind);
+        args.add(Long.toString(version));
+        args.add(Long.toString(tombstoneTtl.toSeconds()));
+        args.add(Integer.toString(values.size()));
+        values.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        args.addAll(cleared);
+        boolean deleted = TaskEvent.Type.DELETED.name().equals(kind);
+
+        Outcome outcome = Outcome.STALE;
+        for (String target : generations) {
+            String prefix = prefix(target);
+            String key = prefix + "task:" + taskId;
+            List<?> result = null;
+            long code = MOVED;
+            // The script is passed the index sets of the values read here, and refuses if they have since changed
+            for (int attempt = 0; code == MOVED && attempt < MAX_APPLY_ATTEMPTS; attempt++) {
+                List<Object> indexed = redisTemplate.opsForHash().multiGet(key, List.of("status", "assigneeId"));
+                String status = (String) indexed.get(0);
+                String assignee = (String) indexed.get(1);
+                String newStatus = deleted ? null : after(values, cleared, "status", status);
+                String newAssignee = deleted ? null : after(values, cleared, "assigneeId", assignee);
+                args.set(0, status != null ? status : "");
+                args.set(1, assignee != null ? assignee : "");
+                List<String> keys = List.of(key,
+                    indexKey(prefix, "status:", status), indexKey(prefix, "assignee:", assignee),
+                    indexKey(prefix, "status:", newStatus), indexKey(prefix, "assignee:", newAssignee));
+                result = redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+                code = ((Number) result.get(0)).longValue();
+            }
+            if (code < 0) {
+                // Still moving after every attempt; a repair reloads the task
+                outcome = Outcome.GAP;
+            } else if (code > 0) {
+                if (outcome == Outcome.STALE) {
+                    outcome = Outcome.APPLIED;
+                }
+                if (result.size() > 1 && result.get(1) != null) {
+                    changedStatuses.add(Task.TaskStatus.valueOf(result.get(1).toString()));
+                }
+                String status = values.get("status");
+                if (status != null) {
+                    changedStatuses.add(Task.TaskStatus.valueOf(status));
+                }
+            }
+        }
+        return outcome;
+    }
+
+    // The value a field holds once values and cleared are applied over current
+    private static String after(Map<String, String> values, List<String> cleared, String field, String current) {
+        if (values.containsKey(field)) {
+            return values.get(field);
+        }
+        return cleared.contains(field) ? null : current;
+    }
+
+    private static String indexKey(String prefix, String index, String value) {
+        return value != null ? prefix + index + value : "";
+    }
+
+    private List<String> targets() {
+        List<String> targets = new ArrayList<>(2);
+        if (generation != null) {
+            targets.add(generation);
+        }
+        if (building != null && !building.equals(generation)) {
+            targets.add(building);
+        }
+        return targets;
+    }
+
+    private List<Task> read(String index, Predicate<Task> filter) {
+        String serving = generation;
+        if (!available || serving == null) {
+            return null;
+        }
+        try {
+            String prefix = prefix(serving);
+            List<String> ids = new ArrayList<>(redisTemplate.opsForSet().members(prefix + index));
+            List<Object> documents = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    ids.forEach(id -> operations.opsForHash().entries(prefix + "task:" + id));
+                    return null;
+                }
+            });
+            List<Task> tasks = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> document = (Map<String, String>) documents.get(i);
+                // A set entry can briefly outlive its task between the script's writes and this read
+                if (document != null && !document.isEmpty() && !document.containsKey("deleted")) {
+                    Task task = toTask(UUID.fromString(ids.get(i)), document);
+                    if (filter.test(task)) {
+                        tasks.add(task);
+                    }
+                }
+            }
+            tasks.sort(Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+            return tasks;
+        } catch (DataAccessException e) {
+            logger.warn("Task projection unavailable, reading from database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long maxLag() {
+        long max = 0;
+        for (Object lag : redisTemplate.opsForHash().values(LAG_KEY)) {
+            max = Math.max(max, Long.parseLong(lag.toString()));
+        }
+        return max;
+    }
+
+    /**
+     * The projected values an event sets ({@code values}) and clears ({@code cleared}): the carried
+     * fields and, unless the task was deleted, the time of the change as {@code updatedAt}.
+     */
+    static void fields(TaskEvent event, Map<String, String> values, List<String> cleared) {
+        Task task = event.getValues();
+        for (TaskEvent.Field field : event.getFields()) {
+            switch (field) {
+                case TITLE -> put(values, cleared, "title", task.getTitle());
+                case DESCRIPTION -> put(values, cleared, "description", task.getDescription());
+                case STATUS -> put(values, cleared, "status", task.getStatus());
+                case PRIORITY -> put(values, cleared, "priority", task.getPriority());
+                case ASSIGNEE_ID -> put(values, cleared, "assigneeId", task.getAssigneeId());
+                case CREATED_AT -> put(values, cleared, "createdAt", task.getCreatedAt());
+            }
+        }
+        put(values, cleared, "updatedAt", event.getOccurredAt());
+    }
+
+    static Task toTask(UUID id, Map<String, String> document) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(document.get("title"));
+        task.setDescription(document.get("description"));
+        task.setStatus(parse(document.get("status"), Task.TaskStatus::valueOf));
+        task.setPriority(parse(document.get("priority"), Task.TaskPriority::valueOf));
+        task.setAssigneeId(parse(document.get("assigneeId"), UUID::fromString));
+        task.setCreatedAt(parse(document.get("createdAt"), LocalDateTime::parse));
+        task.setUpdatedAt(parse(document.get("updatedAt"), LocalDateTime::parse));
+        task.setVersion(parse(document.get("version"), Long::valueOf));
+        return task;
+    }
+
+    private static void put(Map<String, String> values, List<String> cleared, String field, Object value) {
+        if (value != null) {
+            values.put(field, value.toString());
+        } else {
+            cleared.add(field);
+        }
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value != null ? parser.apply(value) : null;
+    }
+
+    private static String prefix(String generation) {
+        return KEY_PREFIX + generation + ":";
+    }
+}
@@ -0,0 +1,209 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the task-events topic to {@link TaskProjection}. Unlike the stream listener, instances
+ * share one consumer group, so each event is applied once; a rebalanced or restarted consumer
+ * re-applies from the last committed offset, which the projection's version check makes harmless.
+ * A new group starts at the live end of the topic, since the projection's rebuild loads the
+ * existing tasks from the database.
+ *
+ * <p>An event that leaves a gap in the projection is repaired by loading its task from the
+ * database. Lag per partition is published as {@code task.projection.lag} and reported to Redis,
+ * where readers check it. Setting {@code task-projection:replay} to an instant (ISO-8601) or to
+ * positions ({@code partition:offset,...}) makes each consumer seek its partitions there and
+ * re-apply the events from that point.
+ */
+@Component
+@ConditionalOnProperty(name = "app.projection.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskProjectionListener extends AbstractConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskProjectionListener.class);
+
+    static final String LISTENER_ID = "task-projection";
+
+    @Autowired
+    private TaskProjection taskProjection;
+
+    @Autowired
+    private TaskCacheWriter taskCacheWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.projection.check-interval:PT1S}")
+    private Duration reportInterval;
+
+    // Updated on consumer threads, read by the gauges
+    private final Map<Integer, AtomicLong> lags = new ConcurrentHashMap<>();
+    private final Map<Integer, Gauge> lagGauges = new ConcurrentHashMap<>();
+    private final AtomicLong lastReport = new AtomicLong(System.nanoTime());
+    private volatile String lastReplay;
+
+    @KafkaListener(
+        id = LISTENER_ID,
+        topics = TaskService.TASK_EVENTS_TOPIC,
+        groupId = "task-projection",
+        properties = {
+            "auto.offset.reset=latest",
+            "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+            "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+        })
+    public void onTaskEvent(ConsumerRecord<String, byte[]> record, Consumer<?, ?> consumer) {
+        apply(record);
+        afterPoll(consumer);
+    }
+
+    // Published on the consumer thread, so lag is still reported and replays still start when no events arrive
+    @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        afterPoll(event.getConsumer());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        super.onPartitionsRevoked(partitions);
+        List<Integer> revoked = new ArrayList<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            revoked.add(partition.partition());
+            lags.remove(partition.partition());
+            Gauge gauge = lagGauges.remove(partition.partition());
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+        }
+        // The new owner reports these again; a partition left without one no longer counts
+        try {
+            taskProjection.forgetLag(revoked);
+        } catch (DataAccessException e) {
+            logger.debug("Could not clear task projection lag of revoked partitions: {}", e.getMessage());
+        }
+    }
+
+    void apply(ConsumerRecord<String, byte[]> record) {
+        TaskEvent event;
+        try {
+            event = TaskEventCodec.decode(record.value());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping unreadable task event at {}:{}: {}", record.partition(), record.offset(), e.getMessage());
+            count("unreadable");
+            return;
+        }
+
+        Set<Task.TaskStatus> changedStatuses = EnumSet.noneOf(Task.TaskStatus.class);
+        try {
+            TaskProjection.Outcome outcome = taskProjection.apply(event, changedStatuses);
+            if (outcome == TaskProjection.Outcome.GAP) {
+                taskProjection.repair(event.getTaskId(), changedStatuses);
+                count("repaired");
+            } else {
+                count(outcome == TaskProjection.Outcome.APPLIED ? "applied" : "duplicate");
+            }
+            meterRegistry.timer("task.projection.delay")
+                .record(Duration.between(event.getOccurredAt(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // The offset moves on regardless; a rebuild restores whatever this event would have changed
+            logger.warn("Failed to apply task event at {}:{}, projection will be rebuilt: {}",
+                record.partition(), record.offset(), e.getMessage());
+            taskProjection.markRebuildNeeded();
+            count("failed");
+        }
+        // Status lists cached while the projection was behind this event are dropped
+        if (!changedStatuses.isEmpty()) {
+            taskCacheWriter.tasksChanged(List.of(), changedStatuses);
+        }
+    }
+
+    private void afterPoll(Consumer<?, ?> consumer) {
+        for (TopicPartition partition : consumer.assignment()) {
+            consumer.currentLag(partition).ifPresent(lag -> lag(partition.partition()).set(lag));
+        }
+        long now = System.nanoTime();
+        long last = lastReport.get();
+        if (now - last < reportInterval.toNanos() || !lastReport.compareAndSet(last, now)) {
+            return;
+        }
+        Map<Integer, Long> snapshot = new HashMap<>();
+        lags.forEach((partition, lag) -> snapshot.put(partition, lag.get()));
+        try {
+            String replay = taskProjection.reportLag(snapshot);
+            if (replay != null && !replay.equals(lastReplay)) {
+                lastReplay = replay;
+                replay(replay);
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Could not report task projection lag: {}", e.getMessage());
+        }
+    }
+
+    private void replay(String request) {
+        try {
+            Instant from = Instant.parse(request);
+            logger.info("Replaying task events from {}", from);
+            seekToTimestamp(from.toEpochMilli());
+            return;
+        } catch (DateTimeParseException e) {
+            // Not an instant; try positions
+        }
+        Map<Integer, Long> positions = TaskChangeFeed.parsePosition(request);
+        if (positions == null) {
+            logger.warn("Ignoring unreadable task projection replay request: {}", request);
+            return;
+        }
+        logger.info("Replaying task events from {}", request);
+        getSeekCallbacks().forEach((partition, callback) -> {
+            Long offset = positions.get(partition.partition());
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            }
+        });
+    }
+
+    private AtomicLong lag(int partition) {
+        return lags.computeIfAbsent(partition, key -> {
+            AtomicLong lag = new AtomicLong();
+            lagGauges.put(key, Gauge.builder("task.projection.lag", lag, AtomicLong::get)
+                .description("Task events not yet applied to the projection")
+                .tag("partition", Integer.toString(key))
+                .register(meterRegistry));
+            return lag;
+        });
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("task.projection.events", "outcome", outcome).increment();
+    }
+}
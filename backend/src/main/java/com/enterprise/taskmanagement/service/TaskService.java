@@ -1,112 +1,190 @@
 package com.enterprise.taskmanagement.service;
 
+import com.enterprise.taskmanagement.cache.TaskCacheReader;
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.config.CacheConfig;
 import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskCursor;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.dto.TaskPage;
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
 import com.enterprise.taskmanagement.dto.TaskUpdateRequest;
 import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.entity.TaskTombstone;
+import com.enterprise.taskmanagement.repository.TaskPatchRepository;
 import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import com.enterprise.taskmanagement.util.ReplicaRoutingDataSource;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Service
 @Transactional
+// Every public method is timed as task.service{class, method, exception}, cache hits included
+@Timed(value = "task.service", description = "Task operations: TaskService reads and writes, TaskBulkService bulk create, update and delete")
 public class TaskService {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
     
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    static final String TASK_EVENTS_TOPIC = "task-events";
+    
     @Autowired
     private TaskRepository taskRepository;
     
     @Autowired
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private TaskTombstoneRepository taskTombstoneRepository;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private TaskCacheReader taskCacheReader;
+    
+    @Autowired
+    private TaskCacheWriter taskCacheWriter;
+    
+    @Autowired
+    private TaskStatsService taskStatsService;
+    
+    @Autowired
+    private TaskProjection taskProjection;
     
-    @Cacheable(value = "tasks", key = "#id")
+    // sync: concurrent misses for the same key share one repository call. Misses are cached,
+    // so they read the primary: a replica could hand back the row a write just evicted
+    @Cacheable(value = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public Optional<Task> findById(UUID id) {
         logger.debug("Finding task by id: {}", id);
-        return taskRepository.findById(id);
+        return ReplicaRoutingDataSource.readFromPrimary(() -> taskRepository.findById(id));
     }
     
-    @Cacheable(value = "allTasks")
+    @Transactional(readOnly = true)
     public List<Task> findAll() {
         logger.debug("Finding all tasks");
         return taskRepository.findAll();
     }
     
+    // From the database the status caches only ids, resolved through the tasks cache. Both are
+    // loaded from the primary, like findById's misses. The projection and the caches may trail
+    // the database, so the result carries no version of its own
+    @Transactional(readOnly = true)
     public List<Task> findByStatus(Task.TaskStatus status) {
         logger.debug("Finding tasks by status: {}", status);
-        return taskRepository.findByStatus(status);
+        List<Task> projected = taskProjection.findByStatus(status);
+        if (projected != null) {
+            return projected;
+        }
+        return taskCacheReader.findByStatus(status,
+            () -> ReplicaRoutingDataSource.readFromPrimary(() -> taskRepository.findIdsByStatus(status)),
+            ids -> ReplicaRoutingDataSource.readFromPrimary(() -> taskRepository.findAllById(ids)));
     }
     
+    @Transactional(readOnly = true)
     public List<Task> findByAssigneeId(UUID assigneeId) {
         logger.debug("Finding tasks by assignee: {}", assigneeId);
-        return taskRepository.findByAssigneeId(assigneeId);
+        List<Task> projected = taskProjection.findByAssigneeId(assigneeId);
+        return projected != null ? projected : taskRepository.findByAssigneeId(assigneeId);
     }
     
-    @CacheEvict(value = {"tasks", "allTasks"}, allEntries = true)
     public Task createTask(TaskCreateRequest request) {
         logger.info("Creating new task: {}", request.getTitle());
         
-        Task task = new Task(
-            request.getTitle(),
-            request.getDescription(),
-            request.getStatus() != null ? request.getStatus() : Task.TaskStatus.TODO,
-            request.getPriority() != null ? request.getPriority() : Task.TaskPriority.MEDIUM,
-            request.getAssigneeId()
-        );
+        Task task = request.toTask();
         
         Task savedTask = taskRepository.save(task);
+        taskCacheWriter.taskSaved(savedTask, null);
+        taskStatsService.taskCreated(savedTask);
         
-        // Publish task created event
-        kafkaTemplate.send("task-events", "task.created", savedTask);
+        // Published to Kafka by the outbox relay once this transaction commits
+        outboxService.append(TASK_EVENTS_TOPIC, TaskEvent.created(savedTask));
         logger.info("Task created successfully with id: {}", savedTask.getId());
         
         return savedTask;
     }
     
-    @CacheEvict(value = {"tasks", "allTasks"}, allEntries = true)
     public Task updateTask(UUID id, TaskUpdateRequest request) {
         logger.info("Updating task: {}", id);
         
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        Task previous = new Task(task);
         
-        if (request.getTitle() != null) {
-            task.setTitle(request.getTitle());
-        }
-        if (request.getDescription() != null) {
-            task.setDescription(request.getDescription());
-        }
-        if (request.getStatus() != null) {
-            task.setStatus(request.getStatus());
-        }
-        if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
-        }
-        if (request.getAssigneeId() != null) {
-            task.setAssigneeId(request.getAssigneeId());
-        }
+        request.applyTo(task);
         
-        Task updatedTask = taskRepository.save(task);
+        // Flushed so the event carries the version this update produced
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskCacheWriter.taskSaved(updatedTask, previous.getStatus());
+        taskStatsService.taskUpdated(previous, updatedTask);
         
-        // Publish task updated event
-        kafkaTemplate.send("task-events", "task.updated", updatedTask);
+        // Published to Kafka by the outbox relay once this transaction commits
+        outboxService.append(TASK_EVENTS_TOPIC, TaskEvent.updated(previous, updatedTask));
         logger.info("Task updated successfully: {}", id);
         
         return updatedTask;
     }
     
-    @CacheEvict(value = {"tasks", "allTasks"}, allEntries = true)
+    /**
+     * Applies a merge patch. With {@code expectedVersion} (the client's If-Match) the patch is
+     * written by one conditional UPDATE instead of loading and merging the entity first, and the
+     * patched task is returned by that statement rather than read back. Without it the task is
+     * loaded, patched and saved, still guarded by its version against concurrent writers.
+     *
+     * @throws OptimisticLockingFailureException if the task is no longer at {@code expectedVersion}
+     */
+    public Task patchTask(UUID id, TaskPatch patch, Long expectedVersion) {
+        logger.info("Patching task: {}", id);
+        
+        if (expectedVersion == null) {
+            Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+            Task previous = new Task(task);
+            patch.applyTo(task);
+            return taskPatched(previous, taskRepository.saveAndFlush(task), patch);
+        }
+        
+        TaskPatchRepository.PatchedTask patched = taskRepository.patchIfVersion(id, expectedVersion, patch)
+            .orElseThrow(() -> versionMismatch(id, expectedVersion));
+        return taskPatched(patched.getPrevious(), patched.getPatched(), patch);
+    }
+    
+    private Task taskPatched(Task previous, Task patchedTask, TaskPatch patch) {
+        taskCacheWriter.taskSaved(patchedTask, previous.getStatus());
+        taskStatsService.taskUpdated(previous, patchedTask);
+        
+        // Published to Kafka by the outbox relay once this transaction commits
+        outboxService.append(TASK_EVENTS_TOPIC, TaskEvent.updated(previous, patchedTask, patch.getEventFields()));
+        logger.info("Task patched successfully: {}", patchedTask.getId());
+        
+        return patchedTask;
+    }
+    
+    // Not found is reported as such; the caller turns a mismatch into 412 Precondition Failed
+    private RuntimeException versionMismatch(UUID id, long expectedVersion) {
+        if (taskRepository.findVersionById(id).isEmpty()) {
+            return new RuntimeException("Task not found with id: " + id);
+        }
+        return new OptimisticLockingFailureException("Task " + id + " is no longer at version " + expectedVersion);
+    }
+    
     public void deleteTask(UUID id) {
         logger.info("Deleting task: {}", id);
         
@@ -114,22 +192,97 @@ public class TaskService {
             .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
         
         taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(id));
+        taskCacheWriter.taskDeleted(id, task.getStatus());
+        taskStatsService.taskDeleted(task);
         
-        // Publish task deleted event
-        kafkaTemplate.send("task-events", "task.deleted", id.toString());
+        // Published to Kafka by the outbox relay once this transaction commits
+        outboxService.append(TASK_EVENTS_TOPIC, TaskEvent.deleted(id, task.getVersion()));
         logger.info("Task deleted successfully: {}", id);
     }
     
+    @Transactional(readOnly = true)
     public Page<Task> findTasksPaginated(Pageable pageable) {
         logger.debug("Finding tasks with pagination: {}", pageable);
         return taskRepository.findAll(pageable);
     }
     
-    public List<Task> searchTasks(String keyword) {
-        logger.debug("Searching tasks with keyword: {}", keyword);
-        return taskRepository.searchByKeyword(keyword);
+    // As findTasksPaginated, without descriptions
+    @Transactional(readOnly = true)
+    public Page<TaskListItem> findTaskItemsPaginated(Pageable pageable) {
+        logger.debug("Finding task items with pagination: {}", pageable);
+        return taskRepository.findAllItems(pageable);
+    }
+    
+    /**
+     * Keyset page in (createdAt DESC, id DESC) order. Pass {@code null} for the first page,
+     * then the previous page's next cursor; cost stays constant however deep the client pages.
+     */
+    @Transactional(readOnly = true)
+    public TaskPage<Task> findTasksAfter(String cursor, int size) {
+        logger.debug("Finding tasks after cursor: {}, size: {}", cursor, size);
+        return keysetPage(cursor, size, taskRepository::findFirstPage,
+            (position, limit) -> taskRepository.findPageAfter(position.getCreatedAt(), position.getId(), limit),
+            last -> new TaskCursor(last.getCreatedAt(), last.getId()));
+    }
+    
+    // As findTasksAfter, without descriptions; the cursors are interchangeable
+    @Transactional(readOnly = true)
+    public TaskPage<TaskListItem> findTaskItemsAfter(String cursor, int size) {
+        logger.debug("Finding task items after cursor: {}, size: {}", cursor, size);
+        return keysetPage(cursor, size, taskRepository::findFirstItemPage,
+            (position, limit) -> taskRepository.findItemPageAfter(position.getCreatedAt(), position.getId(), limit),
+            last -> new TaskCursor(last.getCreatedAt(), last.getId()));
+    }
+    
+    private <T> TaskPage<T> keysetPage(String cursor, int size, Function<Pageable, List<T>> firstPage,
+                                       BiFunction<TaskCursor, Pageable, List<T>> pageAfter,
+                                       Function<T, TaskCursor> positionOf) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<T> rows = cursor == null || cursor.isBlank()
+            ? firstPage.apply(limit)
+            : pageAfter.apply(TaskCursor.decode(cursor), limit);
+        
+        if (rows.size() <= pageSize) {
+            return new TaskPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, pageSize);
+        return new TaskPage<>(content, positionOf.apply(content.get(pageSize - 1)).encode());
+    }
+    
+    /**
+     * An assignee's next {@code limit} tasks in {@code status}, highest priority first and oldest
+     * first within a priority.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> findQueue(UUID assigneeId, Task.TaskStatus status, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        logger.debug("Finding work queue for assignee: {}, status: {}, limit: {}", assigneeId, status, pageSize);
+        return taskRepository.findTopTasksByAssigneeAndStatus(assigneeId, status, PageRequest.of(0, pageSize));
+    }
+    
+    // As findQueue, without descriptions
+    @Transactional(readOnly = true)
+    public List<TaskListItem> findQueueItems(UUID assigneeId, Task.TaskStatus status, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        logger.debug("Finding work queue items for assignee: {}, status: {}, limit: {}", assigneeId, status, pageSize);
+        return taskRepository.findTopItemsByAssigneeAndStatus(assigneeId, status, PageRequest.of(0, pageSize));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TaskSearchHit> searchTasks(String keyword, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Search keyword must not be blank");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        logger.debug("Searching tasks with keyword: {}, page: {}, size: {}", keyword, page, pageSize);
+        return taskRepository.search(keyword.trim(), (long) Math.max(0, page) * pageSize, pageSize);
     }
     
+    @Transactional(readOnly = true)
     public long countTasksByStatus(Task.TaskStatus status) {
         return taskRepository.countByStatus(status);
     }
@@ -0,0 +1,296 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Task counts per status, priority and assignee, kept in Redis hashes. Writes adjust the counters
+ * with HINCRBY after commit, so reads are a single small HGETALL/HGET instead of COUNT scans.
+ * A periodic job, run by one instance at a time, overwrites the counters from GROUP BY queries
+ * to correct any drift (lost increments, writes made outside the service).
+ *
+ * <p>Overwriting is fenced against the increments that land while the database is counting: a
+ * recount first sets a fence on the counter, during which every delta is also journaled, and then
+ * swaps in its counts plus the journal in one script. A write that commits just before the count
+ * but reaches Redis after the fence is counted twice; the window is the commit-to-increment delay
+ * and the next reconciliation corrects it.
+ */
+@Service
+public class TaskStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+
+    static final String STATUS_KEY = "task-stats:status";
+    static final String PRIORITY_KEY = "task-stats:priority";
+    static final String ASSIGNEE_KEY = "task-stats:assignee";
+    private static final String RECONCILE_LOCK_KEY = "task-stats:reconcile-lock";
+    private static final String FENCE_SUFFIX = ":fence";
+    private static final String JOURNAL_SUFFIX = ":journal";
+    // Written with every recount so a counter with no tasks behind it still exists and is not recounted
+    static final String SEEDED_FIELD = "_seeded";
+
+    // Longest a GROUP BY may take; a recount that outlasts its fence is abandoned
+    private static final Duration FENCE_TIMEOUT = Duration.ofSeconds(30);
+
+    static final RedisScript<Long> INCREMENT_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/task-stats-increment.lua"), Long.class);
+    static final RedisScript<Long> REPLACE_SCRIPT =
+        RedisScript.of(new ClassPathResource("redis/task-stats-replace.lua"), Long.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${app.stats.reconcile-interval:PT5M}")
+    private Duration reconcileInterval;
+
+    public void taskCreated(Task task) {
+        apply(delta(null, task));
+    }
+
+    public void taskUpdated(Task previous, Task current) {
+        apply(delta(previous, current));
+    }
+
+    public void taskDeleted(Task task) {
+        apply(delta(task, null));
+    }
+
+    // Bulk variants: one pipeline for the whole batch; previous and current are paired by index
+    public void tasksCreated(Collection<Task> tasks) {
+        Map<String, Map<String, Long>> delta = new LinkedHashMap<>();
+        tasks.forEach(task -> merge(delta, delta(null, task)));
+        apply(delta);
+    }
+
+    public void tasksUpdated(List<Task> previous, List<Task> current) {
+        Map<String, Map<String, Long>> delta = new LinkedHashMap<>();
+        for (int i = 0; i < current.size(); i++) {
+            merge(delta, delta(previous.get(i), current.get(i)));
+        }
+        apply(delta);
+    }
+
+    public void tasksDeleted(Collection<Task> tasks) {
+        Map<String, Map<String, Long>> delta = new LinkedHashMap<>();
+        tasks.forEach(task -> merge(delta, delta(task, null)));
+        apply(delta);
+    }
+
+    public Map<Task.TaskStatus, Long> getStatusCounts() {
+        Map<String, Long> counts = read(STATUS_KEY);
+        if (counts == null) {
+            counts = recount(STATUS_KEY, taskRepository::countGroupedByStatus, true);
+        }
+        Map<Task.TaskStatus, Long> result = new EnumMap<>(Task.TaskStatus.class);
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            result.put(status, counts.getOrDefault(status.name(), 0L));
+        }
+        return result;
+    }
+
+    public Map<Task.TaskPriority, Long> getPriorityCounts() {
+        Map<String, Long> counts = read(PRIORITY_KEY);
+        if (counts == null) {
+            counts = recount(PRIORITY_KEY, taskRepository::countGroupedByPriority, true);
+        }
+        Map<Task.TaskPriority, Long> result = new EnumMap<>(Task.TaskPriority.class);
+        for (Task.TaskPriority priority : Task.TaskPriority.values()) {
+            result.put(priority, counts.getOrDefault(priority.name(), 0L));
+        }
+        return result;
+    }
+
+    public long getAssigneeCount(UUID assigneeId) {
+        try {
+            Object value = redisTemplate.opsForHash().get(ASSIGNEE_KEY, assigneeId.toString());
+            if (value != null) {
+                return Long.parseLong(value.toString());
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(ASSIGNEE_KEY))) {
+                return 0;
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Task stats unavailable in Redis, counting in database: {}", e.getMessage());
+        }
+        return taskRepository.countByAssigneeId(assigneeId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${app.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(RECONCILE_LOCK_KEY, instanceId, reconcileInterval);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            recount(STATUS_KEY, taskRepository::countGroupedByStatus, false);
+            recount(PRIORITY_KEY, taskRepository::countGroupedByPriority, false);
+            recount(ASSIGNEE_KEY, taskRepository::countGroupedByAssignee, false);
+            logger.debug("Reconciled task stats with database");
+        } catch (DataAccessException e) {
+            logger.warn("Task stats reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Counter changes implied by moving from {@code previous} to {@code current}; either may be
+     * {@code null} for a create or delete. Unchanged dimensions produce no entry.
+     */
+    static Map<String, Map<String, Long>> delta(Task previous, Task current) {
+        Map<String, Map<String, Long>> delta = new LinkedHashMap<>();
+        adjust(delta, STATUS_KEY, previous != null ? previous.getStatus() : null,
+               current != null ? current.getStatus() : null);
+        adjust(delta, PRIORITY_KEY, previous != null ? previous.getPriority() : null,
+               current != null ? current.getPriority() : null);
+        adjust(delta, ASSIGNEE_KEY, previous != null ? previous.getAssigneeId() : null,
+               current != null ? current.getAssigneeId() : null);
+        return delta;
+    }
+
+    private static void adjust(Map<String, Map<String, Long>> delta, String key, Object before, Object after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Map<String, Long> fields = delta.computeIfAbsent(key, k -> new LinkedHashMap<>());
+        if (before != null) {
+            fields.merge(before.toString(), -1L, Long::sum);
+        }
+        if (after != null) {
+            fields.merge(after.toString(), 1L, Long::sum);
+        }
+    }
+
+    private static void merge(Map<String, Map<String, Long>> target, Map<String, Map<String, Long>> delta) {
+        delta.forEach((key, fields) -> fields.forEach((field, amount) ->
+            target.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(field, amount, Long::sum)));
+    }
+
+    private void apply(Map<String, Map<String, Long>> delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        delta.forEach((key, fields) -> {
+            keys.addAll(List.of(key, key + FENCE_SUFFIX, key + JOURNAL_SUFFIX));
+            args.add(Integer.toString(fields.size()));
+            fields.forEach((field, amount) -> {
+                args.add(field);
+                args.add(Long.toString(amount));
+            });
+        });
+        TransactionUtils.afterCommit(() -> {
+            try {
+                // One script for every counter the change touches: one round trip, journaled if fenced
+                redisTemplate.execute(INCREMENT_SCRIPT, keys, args.toArray());
+            } catch (DataAccessException e) {
+                // The next reconciliation restores the counters
+                logger.warn("Failed to update task stats: {}", e.getMessage());
+            }
+        });
+    }
+
+    private Map<String, Long> read(String key) {
+        try {
+            // A missing key reads as no entries; a seeded one always has at least SEEDED_FIELD
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            if (entries.isEmpty()) {
+                return null;
+            }
+            Map<String, Long> counts = new HashMap<>();
+            entries.forEach((field, value) -> {
+                if (!SEEDED_FIELD.equals(field.toString())) {
+                    counts.put(field.toString(), Long.parseLong(value.toString()));
+                }
+            });
+            return counts;
+        } catch (DataAccessException e) {
+            logger.warn("Task stats unavailable in Redis, counting in database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Counts {@code key}'s values in the database and replaces the counter with them, unless
+     * another recount holds its fence; then the counts are returned and Redis is left to that one.
+     * With {@code quietly}, a Redis failure is logged and the database counts are still returned.
+     */
+    private Map<String, Long> recount(String key, Supplier<List<Object[]>> query, boolean quietly) {
+        String token = UUID.randomUUID().toString();
+        boolean fenced;
+        try {
+            fenced = Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(key + FENCE_SUFFIX, token, FENCE_TIMEOUT));
+        } catch (DataAccessException e) {
+            if (!quietly) {
+                throw e;
+            }
+            logger.debug("Could not seed task stats in Redis: {}", e.getMessage());
+            fenced = false;
+        }
+        Map<String, Long> counts = toCounts(query.get());
+        if (fenced) {
+            try {
+                replace(key, token, counts);
+            } catch (DataAccessException e) {
+                if (!quietly) {
+                    throw e;
+                }
+                logger.debug("Could not seed task stats in Redis: {}", e.getMessage());
+            }
+        }
+        return counts;
+    }
+
+    private void replace(String key, String token, Map<String, Long> counts) {
+        List<String> args = new ArrayList<>();
+        args.add(token);
+        args.add(SEEDED_FIELD);
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(Long.toString(count));
+        });
+        Long replaced = redisTemplate.execute(REPLACE_SCRIPT,
+            List.of(key, key + FENCE_SUFFIX, key + JOURNAL_SUFFIX), args.toArray());
+        if (!Long.valueOf(1).equals(replaced)) {
+            logger.warn("Recount of {} outlasted its fence ({}), counters left unchanged", key, FENCE_TIMEOUT);
+        }
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(row[0].toString(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
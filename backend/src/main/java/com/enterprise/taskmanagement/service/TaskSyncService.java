@@ -0,0 +1,142 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskChanges;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Collection versions and delta sync for task lists.
+ *
+ * <p>The collection version is the latest {@code updated_at} or deletion time, both index-only
+ * lookups, so a client revalidating an unchanged list costs two MAX queries instead of a page.
+ * It is only handed out as an ETag once it is older than the settle time (below): until then a
+ * write flushed earlier may still commit without moving it, and the list would stay cached
+ * without that write.
+ *
+ * <p>Changes are read up to {@code app.sync.settle-time} before now: {@code updated_at} is taken
+ * when a row is flushed, not when it commits, so a transaction still in flight may later commit a
+ * row older than the newest one visible. Holding back the most recent moment lets such rows land
+ * before a client's {@code since} moves past them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskSyncService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TaskSyncService.class);
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+    
+    @Value("${app.sync.settle-time:PT2S}")
+    private Duration settleTime;
+    
+    @Value("${app.sync.tombstone-retention:P7D}")
+    private Duration tombstoneRetention;
+    
+    /**
+     * Changes whenever a task is created, updated or deleted. {@code null} for an empty table
+     * that never had a deletion.
+     */
+    public LocalDateTime collectionVersion() {
+        LocalDateTime updated = taskRepository.findLatestUpdatedAt();
+        LocalDateTime deleted = taskTombstoneRepository.findLatestDeletedAt();
+        if (updated == null || (deleted != null && deleted.isAfter(updated))) {
+            return deleted;
+        }
+        return updated;
+    }
+    
+    /**
+     * ETag of the task collection, or {@code null} while the latest write is within the settle
+     * time and the list must be served without a validator.
+     */
+    public String collectionETag() {
+        LocalDateTime version = collectionVersion();
+        if (version != null && version.isAfter(LocalDateTime.now().minus(settleTime))) {
+            return null;
+        }
+        return etag(version);
+    }
+    
+    /**
+     * Where a client that has just loaded the full list should start syncing from.
+     */
+    public LocalDateTime syncPoint() {
+        return LocalDateTime.now().minus(settleTime);
+    }
+    
+    /**
+     * Whether deletions since {@code since} may already have been pruned, so the client has to
+     * reload everything instead of syncing.
+     */
+    public boolean isExpired(LocalDateTime since) {
+        return since.isBefore(LocalDateTime.now().minus(tombstoneRetention));
+    }
+    
+    // Read-write so it runs on the primary: on a lagging replica, rows older than the returned
+    // sync point could still be missing and the client would never receive them
+    @Transactional
+    public TaskChanges findChangesSince(LocalDateTime since, int size) {
+        int pageSize = Math.max(1, Math.min(size, TaskService.MAX_PAGE_SIZE * 10));
+        LocalDateTime until = LocalDateTime.now().minus(settleTime);
+        if (!since.isBefore(until)) {
+            return new TaskChanges(List.of(), List.of(), since, false);
+        }
+        logger.debug("Finding task changes between {} and {}", since, until);
+        
+        List<Task> tasks = new ArrayList<>(taskRepository.findUpdatedBetween(since, until, PageRequest.of(0, pageSize + 1)));
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            // The next request starts after the last timestamp returned, so a page must not end
+            // part-way through tasks sharing one updated_at
+            LocalDateTime boundary = tasks.get(pageSize).getUpdatedAt();
+            tasks.removeIf(task -> !task.getUpdatedAt().isBefore(boundary));
+            if (tasks.isEmpty()) {
+                tasks = taskRepository.findByUpdatedAt(boundary);
+            }
+            until = tasks.get(tasks.size() - 1).getUpdatedAt();
+        }
+        List<UUID> deletedIds = taskTombstoneRepository.findTaskIdsDeletedBetween(since, until);
+        return new TaskChanges(tasks, deletedIds, until, hasMore);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-prune-interval:PT1H}")
+    @Transactional
+    public void pruneTombstones() {
+        int pruned = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (pruned > 0) {
+            logger.info("Pruned {} task tombstones", pruned);
+        }
+    }
+    
+    /**
+     * Weak entity tag for a version timestamp; weak because equal versions may still be
+     * serialized differently (e.g. across releases).
+     */
+    public static String etag(LocalDateTime version) {
+        if (version == null) {
+            return "W/\"0\"";
+        }
+        return "W/\"" + Long.toString(version.toEpochSecond(ZoneOffset.UTC), 36)
+            + "." + Integer.toString(version.getNano(), 36) + "\"";
+    }
+}
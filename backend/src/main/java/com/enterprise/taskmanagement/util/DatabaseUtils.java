@@ -0,0 +1,25 @@
+package com.enterprise.taskmanagement.util;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+
+public final class DatabaseUtils {
+
+    private DatabaseUtils() {}
+
+    /**
+     * Whether the database behind {@code dataSource} is PostgreSQL. Decided from the JDBC metadata
+     * rather than the Hibernate dialect, which is configured globally and not always accurate (tests
+     * run H2 with the PostgreSQL dialect).
+     */
+    public static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
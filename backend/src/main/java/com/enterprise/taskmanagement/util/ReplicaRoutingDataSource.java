@@ -0,0 +1,179 @@
+package com.enterprise.taskmanagement.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a replica, round robin, and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction's read-only flag is only set after the transaction manager asks for a connection.
+ *
+ * <p>{@link #checkLag()} takes replicas more than {@code maxLag} behind, or unreachable, out of
+ * rotation until they catch up; with none left reads go to the primary. A user whose write
+ * committed less than {@code readYourWrites} ago reads from the primary too, so they see it. That
+ * window is tracked per instance. Reads made inside {@link #readFromPrimary} always go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> primaryReads = new ThreadLocal<>();
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    Supplier<String> currentUser = ReplicaRoutingDataSource::authenticatedUser;
+
+    /**
+     * @param replicas replica pools by name; all start out of rotation until their lag is checked
+     * @param lagQuery returns how many seconds the replica is behind the primary
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    String lagQuery, Duration readYourWrites) {
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(readYourWrites)
+            .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.add(new Replica(name, dataSource));
+            targets.put(name, dataSource);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                String user = currentUser.get();
+                if (user != null) {
+                    TransactionUtils.afterCommit(() -> recentWriters.put(user, Boolean.TRUE));
+                }
+            }
+            return PRIMARY;
+        }
+
+        if (primaryReads.get() != null) {
+            return PRIMARY;
+        }
+        String user = currentUser.get();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.inRotation) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Runs {@code work} with its read-only queries on the primary, for results that outlive the
+     * transaction: a cache filled from a lagging replica would keep serving the old row after the
+     * write's eviction. Only a connection obtained inside {@code work} is routed; one the
+     * transaction already holds is kept. A no-op when routing is off.
+     */
+    public static <T> T readFromPrimary(Supplier<T> work) {
+        Boolean outer = primaryReads.get();
+        primaryReads.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) {
+                primaryReads.remove();
+            }
+        }
+    }
+
+    /**
+     * Measures each replica's lag and updates which replicas serve reads.
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean inRotation;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(Math.max(1, (int) maxLag.toSeconds()));
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+                    inRotation = lagSeconds * 1000 <= maxLag.toMillis();
+                    if (!inRotation && replica.inRotation) {
+                        logger.warn("Replica {} is {} s behind, reading from other replicas or the primary",
+                            replica.name, lagSeconds);
+                    }
+                }
+            } catch (SQLException e) {
+                inRotation = false;
+                if (replica.inRotation) {
+                    logger.warn("Replica {} is unavailable, reading from other replicas or the primary: {}",
+                        replica.name, e.getMessage());
+                }
+            }
+            if (inRotation && !replica.inRotation) {
+                logger.info("Replica {} is serving reads", replica.name);
+            }
+            replica.inRotation = inRotation;
+        }
+    }
+
+    /**
+     * Replica names and whether each is currently serving reads.
+     */
+    public Map<String, Boolean> getReplicaStatus() {
+        Map<String, Boolean> status = new LinkedHashMap<>();
+        replicas.forEach(replica -> status.put(replica.name, replica.inRotation));
+        return status;
+    }
+
+    private static String authenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean inRotation;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
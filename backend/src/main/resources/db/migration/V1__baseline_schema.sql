@@ -0,0 +1,70 @@
+-- Schema as of the switch from Hibernate ddl-auto to Flyway. Databases created before then are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and continue with V2.
+
+-- Tasks, range partitioned by month of created_at. The backend (TaskPartitionManager) creates
+-- the monthly partitions ahead of time; rows outside them land in tasks_default.
+-- The primary key must include the partition key
+CREATE TABLE tasks (
+    id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+    priority VARCHAR(20) NOT NULL DEFAULT 'MEDIUM',
+    priority_rank SMALLINT NOT NULL DEFAULT 2,
+    assignee_id UUID,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+CREATE TABLE tasks_default PARTITION OF tasks DEFAULT;
+
+CREATE INDEX idx_task_status ON tasks(status);
+CREATE INDEX idx_task_assignee ON tasks(assignee_id);
+CREATE INDEX idx_task_created ON tasks(created_at);
+CREATE INDEX idx_task_updated ON tasks(updated_at);
+-- Work queue: one index range scan returns an assignee's next tasks already in order
+CREATE INDEX idx_task_queue ON tasks(assignee_id, status, priority_rank DESC, created_at);
+
+-- Full-text search; title matches rank above description matches. Not mapped by Hibernate
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX idx_task_search ON tasks USING GIN (search_vector);
+
+-- Events written with each task change, drained to Kafka by the outbox relay.
+-- payload is a TaskEventCodec envelope, sent to Kafka as is
+CREATE TABLE outbox_events (
+    id UUID PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_outbox_created ON outbox_events(created_at);
+
+-- DONE tasks moved out of tasks by the archiver. Written once and read rarely, so rows over
+-- 128 bytes rather than 2 kB get their text compressed, with lz4 rather than pglz (PostgreSQL 14+)
+CREATE TABLE task_archive (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) COMPRESSION lz4 NOT NULL,
+    description TEXT COMPRESSION lz4,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assignee_id UUID,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (toast_tuple_target = 128);
+CREATE INDEX idx_archive_assignee ON task_archive(assignee_id, created_at);
+CREATE INDEX idx_archive_archived ON task_archive(archived_at);
+
+-- Deleted task ids, for clients syncing changes since a point in time
+CREATE TABLE task_tombstones (
+    id UUID PRIMARY KEY,
+    task_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_tombstone_deleted ON task_tombstones(deleted_at);
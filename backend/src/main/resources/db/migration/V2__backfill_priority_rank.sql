@@ -0,0 +1,5 @@
+-- Rows written before priority_rank existed got the MEDIUM rank when schema update added the
+-- column. Only rows whose rank disagrees with their priority are touched; a no-op on new databases
+UPDATE tasks
+SET priority_rank = CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END
+WHERE priority_rank <> CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END;
@@ -0,0 +1,18 @@
+-- The relay drains the outbox in insert order of a database sequence rather than by created_at,
+-- which each instance stamps from its own clock. Rows still waiting at upgrade time are numbered
+-- in their old created_at order so they keep it
+ALTER TABLE outbox_events ADD COLUMN sequence_number BIGINT GENERATED BY DEFAULT AS IDENTITY;
+
+UPDATE outbox_events o
+SET sequence_number = ordered.n
+FROM (SELECT id, row_number() OVER (ORDER BY created_at, id) AS n FROM outbox_events) ordered
+WHERE o.id = ordered.id;
+
+SELECT setval(pg_get_serial_sequence('outbox_events', 'sequence_number'),
+              COALESCE(MAX(sequence_number), 0) + 1, false)
+FROM outbox_events;
+
+ALTER TABLE outbox_events ALTER COLUMN sequence_number SET NOT NULL;
+
+CREATE INDEX idx_outbox_sequence ON outbox_events(sequence_number);
+DROP INDEX idx_outbox_created;
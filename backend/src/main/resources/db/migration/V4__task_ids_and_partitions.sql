@@ -0,0 +1,48 @@
+-- A partitioned table's unique keys must include the partition key, so the primary key of tasks
+-- only makes (id, created_at) unique. task_ids holds each task id once, kept by triggers, so a
+-- second task with an id already in use fails on insert whichever month it falls in. It costs
+-- every insert and delete of a task one more index write
+CREATE TABLE task_ids (
+    id UUID PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL
+);
+INSERT INTO task_ids (id, created_at) SELECT id, created_at FROM tasks;
+
+CREATE FUNCTION task_ids_sync() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_ids (id, created_at) VALUES (NEW.id, NEW.created_at);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE task_ids SET id = NEW.id, created_at = NEW.created_at WHERE id = OLD.id;
+        RETURN NEW;
+    END IF;
+    DELETE FROM task_ids WHERE id = OLD.id;
+    RETURN OLD;
+END $$;
+
+CREATE TRIGGER task_ids_sync AFTER INSERT OR DELETE OR UPDATE OF id, created_at ON tasks
+    FOR EACH ROW EXECUTE FUNCTION task_ids_sync();
+
+-- V1 created only tasks_default. Rows written before the backend first ran TaskPartitionManager
+-- landed there, after which their month's partition can no longer be created. The current and
+-- next month's partitions are created here, named as TaskPartitionManager names them; a month
+-- that cannot be is reported and left to tasks_default
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('tasks')) THEN
+        RETURN;
+    END IF;
+    FOR i IN 0..1 LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + i * INTERVAL '1 month')::DATE;
+        BEGIN
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF tasks FOR VALUES FROM (%L) TO (%L)',
+                           to_char(month_start, '"tasks_p"YYYY_MM'), month_start,
+                           (month_start + INTERVAL '1 month')::DATE);
+        EXCEPTION WHEN others THEN
+            RAISE WARNING 'Task partition for % not created: %', to_char(month_start, 'YYYY-MM'), SQLERRM;
+        END;
+    END LOOP;
+END $$;
@@ -0,0 +1,81 @@
+-- Applies one task change to a generation of the task projection (see TaskProjection). Every key
+-- it touches is passed in KEYS; the caller reads the indexed values first and the script checks
+-- they are still current before writing.
+--
+-- KEYS[1]  the task's hash
+-- KEYS[2]  status set of the status the caller read, "" if none
+-- KEYS[3]  assignee set of the assignee the caller read, "" if none
+-- KEYS[4]  status set of the status after the change, "" if none
+-- KEYS[5]  assignee set of the assignee after the change, "" if none
+-- ARGV[1]  status the caller read, "" if none
+-- ARGV[2]  assignee the caller read, "" if none
+-- ARGV[3]  task id
+-- ARGV[4]  CREATED, UPDATED, DELETED or SNAPSHOT (the full state read from the database)
+-- ARGV[5]  task version after the change
+-- ARGV[6]  tombstone time to live, seconds
+-- ARGV[7]  number of field/value pairs that follow; the remaining arguments are fields to clear
+--
+-- Returns {outcome, previous status}: 1 applied, 0 already applied or older than the projected
+-- state, -1 a gap (the update does not follow the projected version) that the caller must repair,
+-- -2 the status or assignee changed since the caller read them, so KEYS must be read again.
+
+local key = KEYS[1]
+local oldStatusSet, oldAssigneeSet, newStatusSet, newAssigneeSet = KEYS[2], KEYS[3], KEYS[4], KEYS[5]
+local id, kind = ARGV[3], ARGV[4]
+local version = tonumber(ARGV[5])
+
+local current = tonumber(redis.call('HGET', key, 'version'))
+local deleted = redis.call('HEXISTS', key, 'deleted') == 1
+local status = redis.call('HGET', key, 'status')
+local assignee = redis.call('HGET', key, 'assigneeId')
+
+if (status or '') ~= ARGV[1] or (assignee or '') ~= ARGV[2] then
+    return {-2, false}
+end
+
+if kind == 'DELETED' then
+    if current and current > version then
+        return {0, status}
+    end
+    if not deleted then
+        if oldStatusSet ~= '' then redis.call('SREM', oldStatusSet, id) end
+        if oldAssigneeSet ~= '' then redis.call('SREM', oldAssigneeSet, id) end
+    end
+    -- Kept a while so a replayed or late create of the task is recognised as stale
+    redis.call('DEL', key)
+    redis.call('HSET', key, 'version', ARGV[5], 'deleted', '1')
+    redis.call('EXPIRE', key, ARGV[6])
+    return {1, status}
+end
+
+if deleted then
+    return {0, false}
+end
+if kind == 'UPDATED' then
+    if current == nil or current < version - 1 then
+        return {-1, status}
+    end
+    if current >= version then
+        return {0, status}
+    end
+elseif current and current >= version then
+    return {0, status}
+end
+
+local count = tonumber(ARGV[7])
+local index = 8
+for _ = 1, count do
+    redis.call('HSET', key, ARGV[index], ARGV[index + 1])
+    index = index + 2
+end
+for clear = index, #ARGV do
+    redis.call('HDEL', key, ARGV[clear])
+end
+redis.call('HSET', key, 'version', ARGV[5])
+
+-- Added even when unchanged, so a snapshot also repairs a missing index entry
+if oldStatusSet ~= '' and oldStatusSet ~= newStatusSet then redis.call('SREM', oldStatusSet, id) end
+if oldAssigneeSet ~= '' and oldAssigneeSet ~= newAssigneeSet then redis.call('SREM', oldAssigneeSet, id) end
+if newStatusSet ~= '' then redis.call('SADD', newStatusSet, id) end
+if newAssigneeSet ~= '' then redis.call('SADD', newAssigneeSet, id) end
+return {1, status}
@@ -0,0 +1,31 @@
+-- Applies counter deltas to the task stats hashes (see TaskStatsService).
+--
+-- KEYS     per counter: its hash, its recount fence and its journal, in that order
+-- ARGV     per counter, in the same order: the number of fields n, then n field/amount pairs
+--
+-- A counter that does not exist is left alone, so it is never seeded with a partial hash. While a
+-- recount holds the fence, every delta is also added to the journal, which expires with the fence,
+-- for the recount to replay on top of its database counts.
+
+local a = 1
+for k = 1, #KEYS, 3 do
+    local counter, fence, journal = KEYS[k], KEYS[k + 1], KEYS[k + 2]
+    local exists = redis.call('EXISTS', counter) == 1
+    local fenceTtl = redis.call('PTTL', fence)
+    local n = tonumber(ARGV[a])
+    a = a + 1
+    for i = 1, n do
+        local field, amount = ARGV[a], ARGV[a + 1]
+        a = a + 2
+        if exists then
+            redis.call('HINCRBY', counter, field, amount)
+        end
+        if fenceTtl > 0 then
+            redis.call('HINCRBY', journal, field, amount)
+        end
+    end
+    if fenceTtl > 0 and n > 0 then
+        redis.call('PEXPIRE', journal, fenceTtl)
+    end
+end
+return 0
@@ -0,0 +1,32 @@
+-- Replaces a task stats hash with counts from the database plus the deltas journaled while they
+-- were counted, and releases the recount fence (see TaskStatsService).
+--
+-- KEYS[1]  the counter hash
+-- KEYS[2]  its recount fence
+-- KEYS[3]  its journal
+-- ARGV[1]  the fence token this recount set
+-- ARGV[2]  a field always written, so the hash exists even when every count is zero or absent
+-- ARGV[3..] field/count pairs from the database
+--
+-- Returns 1 if replaced, 0 if the fence is no longer this recount's: it expired, so the journal may
+-- have missed deltas, and the counter is left as it was.
+
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+local counts = {}
+for i = 3, #ARGV, 2 do
+    counts[ARGV[i]] = tonumber(ARGV[i + 1])
+end
+local journal = redis.call('HGETALL', KEYS[3])
+for i = 1, #journal, 2 do
+    counts[journal[i]] = (counts[journal[i]] or 0) + tonumber(journal[i + 1])
+end
+
+redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+redis.call('HSET', KEYS[1], ARGV[2], 1)
+for field, count in pairs(counts) do
+    redis.call('HSET', KEYS[1], field, count)
+end
+return 1
@@ -0,0 +1,33 @@
+package com.enterprise.taskmanagement;
+
+import com.enterprise.taskmanagement.service.OutboxRelay;
+import com.enterprise.taskmanagement.service.TaskEventListener;
+import com.enterprise.taskmanagement.service.TaskProjectionListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The context of the schema migration run (backend-migrate), on H2 like the other tests.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "migrate"})
+class MigrateProfileTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void migrateProfile_ShouldStartNoWebServerRelayOrConsumers() {
+        assertFalse(context instanceof WebApplicationContext);
+        assertEquals("false", context.getEnvironment().getProperty("spring.kafka.listener.auto-startup"));
+        assertEquals(0, context.getBeanNamesForType(OutboxRelay.class).length);
+        assertEquals(0, context.getBeanNamesForType(TaskEventListener.class).length);
+        assertEquals(0, context.getBeanNamesForType(TaskProjectionListener.class).length);
+    }
+}
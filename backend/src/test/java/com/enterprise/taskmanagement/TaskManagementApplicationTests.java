@@ -1,13 +1,77 @@
 package com.enterprise.taskmanagement;
 
+import com.enterprise.taskmanagement.dto.BulkTaskResult;
+import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.dto.TaskPage;
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
+import com.enterprise.taskmanagement.entity.OutboxEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.OutboxEventRepository;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.service.TaskBulkService;
+import com.enterprise.taskmanagement.service.TaskEventCodec;
+import com.enterprise.taskmanagement.service.TaskService;
+import com.enterprise.taskmanagement.service.TaskSyncService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @ActiveProfiles("test")
 class TaskManagementApplicationTests {
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void contextLoads() {
         // Test that the Spring context loads successfully
@@ -17,4 +81,183 @@ class TaskManagementApplicationTests {
     void applicationStarts() {
         // Test that the application starts without errors
     }
-}
\ No newline at end of file
+
+    @Test
+    void search_ShouldFallBackToSubstringMatchOnH2() {
+        List<TaskSearchHit> hits = taskRepository.search("SCHEMA", 0, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals("Design Database Schema", hits.get(0).getTask().getTitle());
+        assertEquals("Design Database <mark>Schema</mark>", hits.get(0).getHighlight());
+    }
+
+    @Test
+    void search_ShouldEscapeHtmlInHighlights() {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("<script>alert(1)</script> Escaped title");
+        taskService.createTask(request);
+
+        List<TaskSearchHit> hits = taskRepository.search("escaped", 0, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; <mark>Escaped</mark> title", hits.get(0).getHighlight());
+    }
+
+    @Test
+    void createTask_ShouldRecordEventInOutbox() {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Outbox Task");
+        Task task = taskService.createTask(request);
+
+        OutboxEvent event = outboxEventRepository.findAll().stream().filter(e -> e.getAggregateId().equals(task.getId())).findFirst().orElseThrow();
+        assertEquals("task.created", event.getEventType());
+        TaskEvent payload = TaskEventCodec.decode(event.getPayload());
+        assertEquals("Outbox Task", payload.getValues().getTitle());
+        assertEquals(task.getVersion(), payload.getVersion());
+    }
+
+    @Test
+    void outboxEvents_ShouldBeNumberedInWriteOrder() {
+        Task task = taskService.createTask(new TaskCreateRequest("Numbered", null, null, Task.TaskPriority.LOW, null));
+        taskService.deleteTask(task.getId());
+
+        List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("sequenceNumber")).stream()
+            .filter(e -> e.getAggregateId().equals(task.getId()))
+            .toList();
+
+        assertEquals(List.of("task.created", "task.deleted"), events.stream().map(OutboxEvent::getEventType).toList());
+        assertTrue(events.get(0).getSequenceNumber() < events.get(1).getSequenceNumber());
+    }
+
+    @Test
+    void bulkCreate_ShouldPersistValidItemsAndReportInvalidOnes() {
+        BulkTaskResult result = taskBulkService.createTasks(List.of(
+            new TaskCreateRequest("Imported 1", null, null, null, null),
+            new TaskCreateRequest("", null, null, null, null),
+            new TaskCreateRequest("Imported 2", null, Task.TaskStatus.DONE, null, null)));
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(BulkTaskResult.Outcome.FAILED, result.getResults().get(1).getOutcome());
+        Task stored = taskRepository.findById(result.getResults().get(2).getId()).orElseThrow();
+        assertEquals(Task.TaskStatus.DONE, stored.getStatus());
+    }
+
+    @Test
+    void bulkDelete_ShouldDeleteOnlyTheGivenTasks() {
+        BulkTaskResult created = taskBulkService.createTasks(List.of(
+            new TaskCreateRequest("Doomed", null, null, null, null),
+            new TaskCreateRequest("Kept", null, null, null, null)));
+        UUID doomed = created.getResults().get(0).getId();
+        UUID kept = created.getResults().get(1).getId();
+
+        BulkTaskResult result = taskBulkService.deleteTasks(List.of(doomed));
+
+        assertEquals(BulkTaskResult.Outcome.DELETED, result.getResults().get(0).getOutcome());
+        assertTrue(taskRepository.findById(doomed).isEmpty());
+        assertTrue(taskRepository.findById(kept).isPresent());
+    }
+
+    @Test
+    void taskServiceCalls_ShouldBeTimedWithRepositoryQueries() {
+        taskService.countTasksByStatus(Task.TaskStatus.TODO);
+
+        assertTrue(meterRegistry.get("task.service").tag("method", "countTasksByStatus").timer().count() > 0);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations")
+            .tag("repository", "TaskRepository").tag("method", "countByStatus").timer().count() > 0);
+    }
+
+    @Test
+    void findQueue_ShouldOrderByPriorityThenAge() {
+        UUID assigneeId = UUID.randomUUID();
+        Task low = taskService.createTask(new TaskCreateRequest("Low", null, null, Task.TaskPriority.LOW, assigneeId));
+        Task high = taskService.createTask(new TaskCreateRequest("High", null, null, Task.TaskPriority.HIGH, assigneeId));
+        Task medium = taskService.createTask(new TaskCreateRequest("Medium", null, null, Task.TaskPriority.MEDIUM, assigneeId));
+        Task newerHigh = taskService.createTask(new TaskCreateRequest("Newer high", null, null, Task.TaskPriority.HIGH, assigneeId));
+
+        List<UUID> queue = taskService.findQueue(assigneeId, Task.TaskStatus.TODO, 3).stream().map(Task::getId).toList();
+
+        assertEquals(List.of(high.getId(), newerHigh.getId(), medium.getId()), queue);
+        assertEquals(Task.TaskPriority.LOW.getRank(), taskRepository.findById(low.getId()).orElseThrow().getPriorityRank());
+    }
+
+    @Test
+    void listItemQueries_ShouldReturnTasksWithoutDescriptionInEntityOrder() {
+        UUID assigneeId = UUID.randomUUID();
+        taskService.createTask(new TaskCreateRequest("Low", "Long notes", null, Task.TaskPriority.LOW, assigneeId));
+        Task high = taskService.createTask(new TaskCreateRequest("High", "Long notes", null, Task.TaskPriority.HIGH, assigneeId));
+
+        List<UUID> queue = taskService.findQueueItems(assigneeId, Task.TaskStatus.TODO, 10).stream().map(TaskListItem::getId).toList();
+        TaskPage<TaskListItem> first = taskService.findTaskItemsAfter(null, 1);
+        Page<TaskListItem> byPriority = taskService.findTaskItemsPaginated(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "priorityRank")));
+
+        assertEquals(taskService.findQueue(assigneeId, Task.TaskStatus.TODO, 10).stream().map(Task::getId).toList(), queue);
+        assertEquals(high.getId(), queue.get(0));
+        assertEquals(taskService.findTasksAfter(null, 1).getNextCursor(), first.getNextCursor());
+        assertEquals(Task.TaskPriority.HIGH, byPriority.getContent().get(0).getPriority());
+        assertEquals(taskRepository.count(), byPriority.getTotalElements());
+    }
+
+    @Test
+    void patchTask_ShouldApplyConditionallyAndRejectStaleVersion() throws Exception {
+        Task task = taskService.createTask(new TaskCreateRequest("Draft", "Notes", null, Task.TaskPriority.LOW, UUID.randomUUID()));
+        long version = task.getVersion();
+        TaskPatch patch = TaskPatch.from(objectMapper.readTree(
+            "{\"title\": \"Final\", \"priority\": \"HIGH\", \"assigneeId\": null}"));
+
+        Task patched = taskService.patchTask(task.getId(), patch, version);
+
+        assertEquals(version + 1, patched.getVersion());
+        assertEquals("Final", patched.getTitle());
+        assertEquals("Notes", patched.getDescription());
+        assertEquals(Task.TaskPriority.HIGH.getRank(), patched.getPriorityRank());
+        assertNull(patched.getAssigneeId());
+        // Built without reading the row back; it must match what was stored
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(stored.getVersion(), patched.getVersion());
+        assertEquals(stored.getUpdatedAt(), patched.getUpdatedAt());
+        assertEquals(stored.getCreatedAt(), patched.getCreatedAt());
+        assertEquals(stored.getPriorityRank(), patched.getPriorityRank());
+        assertThrows(OptimisticLockingFailureException.class, () -> taskService.patchTask(task.getId(), patch, version));
+    }
+
+    @Test
+    void collectionETag_ShouldNotValidateList_ThatMissesAnEarlierWriteStillCommitting() throws Exception {
+        Duration settleTime = (Duration) ReflectionTestUtils.getField(taskSyncService, "settleTime");
+        ReflectionTestUtils.setField(taskSyncService, "settleTime", Duration.ofMillis(500));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch flushed = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            // Flushed first, so its updated_at is older than the write that commits before it
+            Future<Task> inFlight = executor.submit(() -> transaction.execute(status -> {
+                Task task = taskRepository.saveAndFlush(
+                    new Task("In flight", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, null));
+                flushed.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return task;
+            }));
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+            Thread.sleep(10);
+            taskService.createTask(new TaskCreateRequest("Committed", null, null, Task.TaskPriority.LOW, null));
+
+            String whileInFlight = taskSyncService.collectionETag();
+            release.countDown();
+            UUID inFlightId = inFlight.get(5, TimeUnit.SECONDS).getId();
+            Thread.sleep(600);
+            String settled = taskSyncService.collectionETag();
+
+            // A list read while the earlier write was uncommitted must not be revalidated later
+            assertNull(whileInFlight);
+            assertNotNull(settled);
+            assertTrue(taskRepository.existsById(inFlightId));
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.setField(taskSyncService, "settleTime", settleTime);
+        }
+    }
+}
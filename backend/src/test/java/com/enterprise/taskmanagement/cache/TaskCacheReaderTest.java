@@ -0,0 +1,122 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.config.CacheConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCacheReaderTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private TaskCacheReader taskCacheReader;
+    private TaskCacheWriter taskCacheWriter;
+
+    @BeforeEach
+    void setUp() {
+        // Filled like RedisCache: read, load on a miss, then put
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE, CacheConfig.TASK_IDS_BY_STATUS_CACHE) {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T> T get(Object key, Callable<T> valueLoader) {
+                        ValueWrapper cached = get(key);
+                        if (cached != null) {
+                            return (T) cached.get();
+                        }
+                        try {
+                            T value = valueLoader.call();
+                            put(key, value);
+                            return value;
+                        } catch (Exception e) {
+                            throw new ValueRetrievalException(key, valueLoader, e);
+                        }
+                    }
+                };
+            }
+        };
+        StatusListGenerations generations = new InMemoryGenerations();
+        taskCacheReader = new TaskCacheReader(cacheManager, generations);
+        taskCacheWriter = new TaskCacheWriter();
+        ReflectionTestUtils.setField(taskCacheWriter, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(taskCacheWriter, "generations", generations);
+    }
+
+    @Test
+    void findByStatus_ShouldNotKeepIdsLoadedBeforeAConcurrentWrite() {
+        Task task = task(Task.TaskStatus.TODO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // The first load reads the ids before the write commits, and fills after its eviction
+        List<Task> stale = taskCacheReader.findByStatus(Task.TaskStatus.TODO, () -> {
+            if (loads.getAndIncrement() == 0) {
+                taskCacheWriter.tasksChanged(List.of(task.getId()), List.of(Task.TaskStatus.TODO));
+                return List.of();
+            }
+            return List.of(task.getId());
+        }, ids -> List.of(task));
+        List<Task> fresh = taskCacheReader.findByStatus(Task.TaskStatus.TODO,
+                () -> loads.getAndIncrement() == 0 ? List.of() : List.of(task.getId()), ids -> List.of(task));
+
+        assertTrue(stale.isEmpty());
+        assertEquals(List.of(task), fresh);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void findByStatus_ShouldServeCachedIds_UntilTheStatusChanges() {
+        Task task = task(Task.TaskStatus.TODO);
+        AtomicInteger loads = new AtomicInteger();
+
+        taskCacheReader.findByStatus(Task.TaskStatus.TODO, () -> {
+            loads.incrementAndGet();
+            return List.of(task.getId());
+        }, ids -> List.of(task));
+        List<Task> cached = taskCacheReader.findByStatus(Task.TaskStatus.TODO, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        }, ids -> List.of(task));
+
+        assertEquals(List.of(task), cached);
+        assertEquals(1, loads.get());
+    }
+
+    private Task task(Task.TaskStatus status) {
+        Task task = new Task("Task", "Description", status, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        return task;
+    }
+
+    private static class InMemoryGenerations extends StatusListGenerations {
+
+        private final Map<Task.TaskStatus, Long> generations = new EnumMap<>(Task.TaskStatus.class);
+
+        InMemoryGenerations() {
+            super(null);
+        }
+
+        @Override
+        public Long current(Task.TaskStatus status) {
+            return generations.getOrDefault(status, 0L);
+        }
+
+        @Override
+        public long advance(Task.TaskStatus status) {
+            return generations.merge(status, 1L, Long::sum);
+        }
+    }
+}
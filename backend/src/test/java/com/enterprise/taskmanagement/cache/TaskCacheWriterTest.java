@@ -0,0 +1,123 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.config.CacheConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskCacheWriterTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private TaskCacheWriter taskCacheWriter;
+    private Cache tasks;
+    private Cache taskIdsByStatus;
+    private StatusListGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE, CacheConfig.TASK_IDS_BY_STATUS_CACHE);
+        generations = mock(StatusListGenerations.class);
+        when(generations.advance(any())).thenReturn(1L);
+        taskCacheWriter = new TaskCacheWriter();
+        ReflectionTestUtils.setField(taskCacheWriter, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(taskCacheWriter, "generations", generations);
+        tasks = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        taskIdsByStatus = cacheManager.getCache(CacheConfig.TASK_IDS_BY_STATUS_CACHE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void taskSaved_ShouldWriteThroughAndEvictOnlyAffectedStatusViews() {
+        Task task = task(Task.TaskStatus.DONE);
+        Task other = task(Task.TaskStatus.TODO);
+        tasks.put(other.getId(), other);
+        taskIdsByStatus.put(ids(Task.TaskStatus.TODO), List.of(other.getId()));
+        taskIdsByStatus.put(ids(Task.TaskStatus.IN_PROGRESS), List.of(task.getId()));
+        taskIdsByStatus.put(ids(Task.TaskStatus.DONE), List.of());
+
+        taskCacheWriter.taskSaved(task, Task.TaskStatus.IN_PROGRESS);
+
+        assertSame(task, tasks.get(task.getId()).get());
+        assertSame(other, tasks.get(other.getId()).get());
+        assertNotNull(taskIdsByStatus.get(ids(Task.TaskStatus.TODO)));
+        assertNull(taskIdsByStatus.get(ids(Task.TaskStatus.IN_PROGRESS)));
+        assertNull(taskIdsByStatus.get(ids(Task.TaskStatus.DONE)));
+    }
+
+    @Test
+    void taskSaved_ShouldKeepStatusView_WhenStatusIsUnchanged() {
+        Task task = task(Task.TaskStatus.TODO);
+        taskIdsByStatus.put(ids(Task.TaskStatus.TODO), List.of(task.getId()));
+
+        taskCacheWriter.taskSaved(task, Task.TaskStatus.TODO);
+
+        assertSame(task, tasks.get(task.getId()).get());
+        assertEquals(List.of(task.getId()), taskIdsByStatus.get(ids(Task.TaskStatus.TODO)).get());
+    }
+
+    @Test
+    void taskSaved_ShouldEvictStatusView_WhenTaskIsNew() {
+        Task task = task(Task.TaskStatus.TODO);
+        taskIdsByStatus.put(ids(Task.TaskStatus.TODO), List.of());
+
+        taskCacheWriter.taskSaved(task, null);
+
+        assertNull(taskIdsByStatus.get(ids(Task.TaskStatus.TODO)));
+    }
+
+    @Test
+    void taskDeleted_ShouldEvictOnlyThatTask() {
+        Task task = task(Task.TaskStatus.TODO);
+        Task other = task(Task.TaskStatus.DONE);
+        tasks.put(task.getId(), task);
+        tasks.put(other.getId(), other);
+        taskIdsByStatus.put(ids(Task.TaskStatus.DONE), List.of(other.getId()));
+
+        taskCacheWriter.taskDeleted(task.getId(), Task.TaskStatus.TODO);
+
+        assertNull(tasks.get(task.getId()));
+        assertNotNull(tasks.get(other.getId()));
+        assertNotNull(taskIdsByStatus.get(ids(Task.TaskStatus.DONE)));
+    }
+
+    @Test
+    void taskSaved_ShouldWaitForCommit_WhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+        Task task = task(Task.TaskStatus.TODO);
+
+        taskCacheWriter.taskSaved(task, null);
+
+        assertNull(tasks.get(task.getId()));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertSame(task, tasks.get(task.getId()).get());
+    }
+
+    private static String ids(Task.TaskStatus status) {
+        return StatusListGenerations.idsKey(status, 0);
+    }
+
+    private Task task(Task.TaskStatus status) {
+        Task task = new Task("Task", "Description", status, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        return task;
+    }
+}
@@ -0,0 +1,162 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.config.RedisConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = RedisConfig.jsonRedisSerializer();
+    private final TaskRedisSerializer serializer = new TaskRedisSerializer(json, 512);
+
+    @Test
+    void deserialize_ShouldRestoreEveryTaskField() {
+        Task task = task("Write docs", "Short description");
+
+        Task restored = (Task) serializer.deserialize(serializer.serialize(task));
+
+        assertTaskEquals(task, restored);
+    }
+
+    @Test
+    void serialize_ShouldOmitNullFieldsAndBeSmallerThanJson() {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Minimal");
+        task.setDescription(null);
+        task.setAssigneeId(null);
+
+        byte[] bytes = serializer.serialize(task);
+        Task restored = (Task) serializer.deserialize(bytes);
+
+        assertEquals(task.getId(), restored.getId());
+        assertNull(restored.getDescription());
+        assertNull(restored.getAssigneeId());
+        assertNull(restored.getCreatedAt());
+        assertTrue(bytes.length < json.serialize(task).length / 3);
+    }
+
+    @Test
+    void serialize_ShouldCompressLongDescriptions() {
+        Task task = task("Long", "lorem ipsum dolor sit amet ".repeat(100));
+
+        byte[] bytes = serializer.serialize(task);
+
+        assertEquals(TaskRedisSerializer.FLAG_LZ4, bytes[3]);
+        assertTrue(bytes.length < task.getDescription().length() / 2);
+        assertTaskEquals(task, (Task) serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_ShouldRestoreTaskList() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(task("Task " + i, "Description " + i));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Task> restored = (List<Task>) serializer.deserialize(serializer.serialize(tasks));
+
+        assertEquals(tasks.size(), restored.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertTaskEquals(tasks.get(i), restored.get(i));
+        }
+    }
+
+    @Test
+    void deserialize_ShouldRestoreIdList() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        byte[] bytes = serializer.serialize(ids);
+
+        assertEquals(TaskRedisSerializer.KIND_ID_LIST, bytes[2]);
+        assertEquals(4 + 1 + 3 * 16, bytes.length);
+        assertEquals(ids, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_ShouldRestoreIdListWrittenAsJson() {
+        List<UUID> ids = new ArrayList<>(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        assertEquals(ids, json.deserialize(json.serialize(ids)));
+    }
+
+    @Test
+    void deserialize_ShouldReadEntriesWrittenAsJson() {
+        Task task = task("Cached before the switch", null);
+
+        Task restored = (Task) serializer.deserialize(json.serialize(task));
+
+        assertTaskEquals(task, restored);
+    }
+
+    @Test
+    void serialize_ShouldUseJsonForOtherValues() {
+        Map<String, String> value = new HashMap<>(Map.of("status", "TODO"));
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_ShouldTreatUnknownFormatVersionAsMiss() {
+        byte[] bytes = serializer.serialize(task("Future", null));
+        bytes[1] = TaskRedisSerializer.FORMAT_VERSION + 1;
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_ShouldReadFormatVersion1EntriesWithoutVersion() {
+        UUID id = UUID.randomUUID();
+        byte[] title = "Cached by the previous release".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer bytes = ByteBuffer.allocate(4 + 1 + 16 + 1 + title.length)
+            .put(TaskRedisSerializer.MAGIC).put(TaskRedisSerializer.FORMAT_VERSION_1)
+            .put(TaskRedisSerializer.KIND_TASK).put((byte) 0)
+            // id and title present
+            .put((byte) 0b11)
+            .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+            .put((byte) title.length).put(title);
+
+        Task restored = (Task) serializer.deserialize(bytes.array());
+
+        assertEquals(id, restored.getId());
+        assertEquals("Cached by the previous release", restored.getTitle());
+        assertNull(restored.getVersion());
+    }
+
+    private static Task task(String title, String description) {
+        Task task = new Task(title, description, Task.TaskStatus.IN_PROGRESS, Task.TaskPriority.HIGH, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789));
+        task.setUpdatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1));
+        task.setVersion(7L);
+        return task;
+    }
+
+    private static void assertTaskEquals(Task expected, Task actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getPriority(), actual.getPriority());
+        assertEquals(expected.getAssigneeId(), actual.getAssigneeId());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+}
@@ -0,0 +1,248 @@
+package com.enterprise.taskmanagement.cache;
+
+import com.enterprise.taskmanagement.entity.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteManager;
+    private StringRedisTemplate redisTemplate;
+    private NearCacheInvalidator invalidator;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteManager = new ConcurrentMapCacheManager("tasks");
+        redisTemplate = mock(StringRedisTemplate.class);
+        invalidator = new NearCacheInvalidator(redisTemplate);
+        cacheManager = new TwoLevelCacheManager(remoteManager, invalidator, settings(false), Runnable::run,
+                new TaskValueCopier());
+    }
+
+    @Test
+    void get_ShouldServeFromNearCacheAfterFirstRemoteHit() {
+        UUID id = UUID.randomUUID();
+        Cache remote = remoteManager.getCache("tasks");
+        remote.put(id, "task");
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("tasks");
+
+        assertEquals("task", cache.get(id).get());
+        remote.clear();
+
+        assertEquals("task", cache.get(id).get());
+        assertEquals(1, cache.getLocalCache().stats().hitCount());
+    }
+
+    @Test
+    void put_ShouldWriteBothTiersAndBroadcast() {
+        UUID id = UUID.randomUUID();
+        Cache cache = cacheManager.getCache("tasks");
+
+        cache.put(id, "task");
+
+        assertEquals("task", remoteManager.getCache("tasks").get(id).get());
+        assertEquals("task", cache.get(id).get());
+        verify(redisTemplate).convertAndSend(eq(NearCacheInvalidator.CHANNEL), endsWith("|tasks|" + id));
+    }
+
+    @Test
+    void get_ShouldKeepCachedNullsDistinctFromMisses() {
+        UUID id = UUID.randomUUID();
+        Cache cache = cacheManager.getCache("tasks");
+
+        cache.put(id, null);
+
+        assertNotNull(cache.get(id));
+        assertNull(cache.get(id).get());
+        assertNull(cache.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void invalidationFromAnotherInstance_ShouldDropOnlyTheNearCopy() {
+        UUID id = UUID.randomUUID();
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("tasks");
+        cache.put(id, "stale");
+        remoteManager.getCache("tasks").put(id, "fresh");
+
+        invalidator.listenerFor(cacheManager).onMessage(message("other-instance|tasks|" + id), null);
+
+        assertNull(cache.getLocalCache().getIfPresent(id.toString()));
+        assertEquals("fresh", cache.get(id).get());
+    }
+
+    @Test
+    void invalidationFromSameInstance_ShouldBeIgnored() {
+        UUID id = UUID.randomUUID();
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("tasks");
+        cache.put(id, "task");
+        String published = captureLastPublished();
+
+        invalidator.listenerFor(cacheManager).onMessage(message(published), null);
+
+        assertEquals("task", cache.getLocalCache().getIfPresent(id.toString()).getValue());
+    }
+
+    @Test
+    void get_ShouldHandOutCopies_SoCallersCannotChangeCachedTask() {
+        Task task = new Task("Original", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, null);
+        task.setId(UUID.randomUUID());
+        Cache cache = cacheManager.getCache("tasks");
+        cache.put(task.getId(), task);
+
+        task.setTitle("Changed after put");
+        ((Task) cache.get(task.getId()).get()).setTitle("Changed by a reader");
+        cache.get(task.getId(), Task.class).setTitle("Changed by another reader");
+
+        assertEquals("Original", cache.get(task.getId(), Task.class).getTitle());
+    }
+
+    @Test
+    void get_ShouldNotKeepNearCopy_WhenInvalidatedWhileReadingRemote() {
+        UUID id = UUID.randomUUID();
+        AtomicReference<TwoLevelCacheManager> manager = new AtomicReference<>();
+        ConcurrentMapCache racingRemote = new ConcurrentMapCache("tasks") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper value = super.get(key);
+                // Another instance replaces the entry after this read but before the near copy is stored
+                put(key, "fresh");
+                manager.get().evictLocal("tasks", key.toString());
+                return value;
+            }
+        };
+        racingRemote.put(id, "stale");
+        SimpleCacheManager remote = new SimpleCacheManager();
+        remote.setCaches(List.of(racingRemote));
+        remote.afterPropertiesSet();
+        manager.set(new TwoLevelCacheManager(remote, invalidator, settings(false), Runnable::run, new TaskValueCopier()));
+        TwoLevelCache cache = (TwoLevelCache) manager.get().getCache("tasks");
+
+        assertEquals("stale", cache.get(id).get());
+
+        assertNull(cache.getLocalCache().getIfPresent(id.toString()));
+    }
+
+    @Test
+    void getCache_ShouldReturnNull_ForUnknownRemoteCache() {
+        assertNull(cacheManager.getCache("unknown"));
+    }
+
+    @Test
+    void get_ShouldCallLoaderOnce_WhenConcurrentCallersMiss() throws Exception {
+        UUID id = UUID.randomUUID();
+        Cache cache = cacheManager.getCache("tasks");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(callers.submit(() -> cache.get(id, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "task";
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(callers.submit(() -> cache.get(id, () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("task", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_ShouldFillBothTiersWithoutBroadcast_WhenLoading() {
+        UUID id = UUID.randomUUID();
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("tasks");
+
+        assertEquals("task", cache.get(id, () -> "task"));
+
+        assertEquals("task", remoteManager.getCache("tasks").get(id).get());
+        assertEquals("task", cache.getLocalCache().getIfPresent(id.toString()).getValue());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void get_ShouldServeStaleValueAndRefresh_WhenStaleWhileRevalidateEnabled() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TwoLevelCacheManager swrManager = new TwoLevelCacheManager(remoteManager, invalidator, settings(true),
+                scheduled::add, new TaskValueCopier());
+        UUID id = UUID.randomUUID();
+        Cache cache = swrManager.getCache("tasks");
+        cache.put(id, "stale");
+
+        assertEquals("stale", cache.get(id, () -> "fresh"));
+        assertEquals("stale", cache.get(id, () -> "fresh"));
+        assertEquals(1, scheduled.size());
+
+        scheduled.get(0).run();
+
+        assertEquals("fresh", cache.get(id).get());
+        assertEquals("fresh", remoteManager.getCache("tasks").get(id).get());
+        // Only the initial put was broadcast
+        verify(redisTemplate).convertAndSend(eq(NearCacheInvalidator.CHANNEL), endsWith("|tasks|" + id));
+    }
+
+    @Test
+    void jittered_ShouldStayWithinBounds() {
+        Duration ttl = Duration.ofMinutes(10);
+        for (int i = 0; i < 1000; i++) {
+            long millis = NearCacheSettings.jittered(ttl, 0.1).toMillis();
+            assertTrue(millis >= 540_000 && millis <= 660_000, "jittered TTL out of range: " + millis);
+        }
+        assertEquals(ttl, NearCacheSettings.jittered(ttl, 0));
+    }
+
+    private static NearCacheSettings settings(boolean staleWhileRevalidate) {
+        return new NearCacheSettings(100, Duration.ofMinutes(1), 0.1, staleWhileRevalidate, Duration.ZERO);
+    }
+
+    private String captureLastPublished() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, atLeastOnce()).convertAndSend(eq(NearCacheInvalidator.CHANNEL), captor.capture());
+        return captor.getValue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(NearCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,27 +1,54 @@
 package com.enterprise.taskmanagement.controller;
 
+import com.enterprise.taskmanagement.dto.BulkTaskResult;
+import com.enterprise.taskmanagement.dto.TaskChanges;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.dto.TaskPage;
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
 import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.service.TaskArchiveService;
+import com.enterprise.taskmanagement.service.TaskBulkService;
+import com.enterprise.taskmanagement.service.TaskChangeFeed;
+import com.enterprise.taskmanagement.service.TaskExportService;
 import com.enterprise.taskmanagement.service.TaskService;
+import com.enterprise.taskmanagement.service.TaskStatsService;
+import com.enterprise.taskmanagement.service.TaskSyncService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
+@Import(TaskListWriter.class)
 class TaskControllerTest {
 
     @Autowired
@@ -30,18 +57,109 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskBulkService taskBulkService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @MockBean
+    private TaskArchiveService taskArchiveService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(taskSyncService.syncPoint()).thenReturn(LocalDateTime.of(2024, 1, 15, 10, 0));
+    }
+
     @Test
     @WithMockUser
     void getAllTasks_ShouldReturnTaskList() throws Exception {
         Task task = new Task("Test Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
-        when(taskService.findAll()).thenReturn(Arrays.asList(task));
+        when(taskService.findTasksAfter(null, 20)).thenReturn(new TaskPage<>(Arrays.asList(task), null));
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Test Task"));
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(header().doesNotExist(TaskController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldExposeNextCursor_WhenMorePagesExist() throws Exception {
+        Task task = new Task("Test Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        when(taskService.findTasksAfter("abc", 1)).thenReturn(new TaskPage<>(Arrays.asList(task), "def"));
+
+        mockMvc.perform(get("/api/tasks").param("cursor", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER, "def"));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldReadListItemsAndReturnOnlyRequestedFields_WhenDescriptionNotRequested() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskListItem item = new TaskListItem(taskId, "Test Task", Task.TaskStatus.TODO, Task.TaskPriority.HIGH, null, 3L,
+            LocalDateTime.of(2024, 1, 15, 9, 0), LocalDateTime.of(2024, 1, 15, 9, 30));
+        when(taskService.findTaskItemsAfter(null, 20)).thenReturn(new TaskPage<>(List.of(item), null));
+
+        mockMvc.perform(get("/api/tasks").param("fields", "title,priority"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskId.toString()))
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(jsonPath("$[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$[0].status").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+        verify(taskService, never()).findTasksAfter(any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksByStatus_ShouldFilterFields_WhenDescriptionRequested() throws Exception {
+        Task task = new Task("Test Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        when(taskService.findByStatus(Task.TaskStatus.TODO)).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/api/tasks/status/{status}", "TODO").param("fields", "description"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Description"))
+                .andExpect(jsonPath("$[0].title").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksByStatus_ShouldServeReadModelWithoutDatabaseETag_WhenProjectionIsStale() throws Exception {
+        // The database already holds a newer write; the projection still returns the list before it
+        String current = TaskSyncService.etag(LocalDateTime.of(2024, 1, 15, 10, 30));
+        when(taskSyncService.collectionETag()).thenReturn(current);
+        Task stale = new Task("Before the write", null, Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, null);
+        when(taskService.findByStatus(Task.TaskStatus.TODO)).thenReturn(List.of(stale));
+
+        mockMvc.perform(get("/api/tasks/status/{status}", "TODO").header("If-None-Match", current))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$[0].title").value("Before the write"));
+
+        verify(taskSyncService, never()).collectionETag();
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldReturn400_WhenFieldUnknown() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+        verify(taskService, never()).findTaskItemsAfter(any(), anyInt());
     }
 
     @Test
@@ -56,6 +174,113 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
 
+    @Test
+    @WithMockUser
+    void patchTask_ShouldPassIfMatchVersionAndReturnNewETag() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task("Renamed", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, null);
+        task.setVersion(4L);
+        when(taskService.patchTask(eq(taskId), any(), eq(3L))).thenReturn(task);
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId).with(csrf())
+                        .contentType("application/merge-patch+json")
+                        .header("If-Match", "\"3\"")
+                        .content("{\"title\": \"Renamed\", \"assigneeId\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.title").value("Renamed"));
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldReturn412_WhenTaskChangedSinceRead() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(taskService.patchTask(eq(taskId), any(), eq(3L)))
+                .thenThrow(new OptimisticLockingFailureException("Task changed"));
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId).with(csrf())
+                        .contentType("application/merge-patch+json")
+                        .header("If-Match", "\"3\"")
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldRejectFieldsThatCannotBePatched() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", UUID.randomUUID()).with(csrf())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"version\": 9}"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).patchTask(any(), any(), isNull());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturn304_WhenETagMatches() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task("Test Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        task.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        when(taskService.findById(taskId)).thenReturn(Optional.of(task));
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldReturn304WithoutReadingTasks_WhenCollectionUnchanged() throws Exception {
+        String etag = TaskSyncService.etag(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 500));
+        when(taskSyncService.collectionETag()).thenReturn(etag);
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(taskService, never()).findTasksAfter(any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldOmitETag_WhileLatestWriteIsSettling() throws Exception {
+        when(taskSyncService.collectionETag()).thenReturn(null);
+        when(taskSyncService.syncPoint()).thenReturn(LocalDateTime.of(2024, 1, 15, 10, 30));
+        when(taskService.findTasksAfter(null, 20)).thenReturn(new TaskPage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", TaskSyncService.etag(null)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskChanges_ShouldReturnChangesSince() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2024, 1, 15, 10, 0);
+        UUID deletedId = UUID.randomUUID();
+        Task task = new Task("Changed", "Description", Task.TaskStatus.DONE, Task.TaskPriority.LOW, null);
+        when(taskSyncService.findChangesSince(since, 500))
+                .thenReturn(new TaskChanges(List.of(task), List.of(deletedId), since.plusMinutes(5), false));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "2024-01-15T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value("Changed"))
+                .andExpect(jsonPath("$.deletedIds[0]").value(deletedId.toString()))
+                .andExpect(jsonPath("$.since").value("2024-01-15T10:05:00"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskChanges_ShouldReturn410_WhenSincePredatesRetainedDeletions() throws Exception {
+        when(taskSyncService.isExpired(any())).thenReturn(true);
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "2020-01-01T00:00:00"))
+                .andExpect(status().isGone());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void createTask_ShouldReturnCreatedTask() throws Exception {
@@ -78,4 +303,108 @@ class TaskControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value("New Task"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void createTasks_ShouldReturnPerItemResults() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(taskBulkService.createTasks(any())).thenReturn(new BulkTaskResult(new BulkTaskResult.ItemResult[] {
+                new BulkTaskResult.ItemResult(0, id, BulkTaskResult.Outcome.CREATED, null),
+                BulkTaskResult.ItemResult.failed(1, null, "title: Title is required")
+        }));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"Imported\"},{\"title\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(id.toString()))
+                .andExpect(jsonPath("$.results[1].error").value("title: Title is required"));
+    }
+
+    @Test
+    @WithMockUser
+    void getWorkQueue_ShouldReturnAssigneeQueueWithoutInternalRank() throws Exception {
+        UUID assigneeId = UUID.randomUUID();
+        Task task = new Task("Fix login bug", "Description", Task.TaskStatus.IN_PROGRESS, Task.TaskPriority.HIGH, assigneeId);
+        when(taskService.findQueue(assigneeId, Task.TaskStatus.IN_PROGRESS, 5)).thenReturn(Arrays.asList(task));
+
+        mockMvc.perform(get("/api/tasks/assignee/{assigneeId}/queue", assigneeId)
+                        .param("status", "IN_PROGRESS").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$[0].priorityRank").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void searchTasks_ShouldReturnRankedHits() throws Exception {
+        Task task = new Task("Fix login bug", "Description", Task.TaskStatus.TODO, Task.TaskPriority.HIGH, UUID.randomUUID());
+        when(taskService.searchTasks("login", 1, 10))
+                .thenReturn(Arrays.asList(new TaskSearchHit(task, 0.9, "Fix <mark>login</mark> bug")));
+
+        mockMvc.perform(get("/api/tasks/search").param("keyword", "login").param("page", "1").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].task.title").value("Fix login bug"))
+                .andExpect(jsonPath("$[0].rank").value(0.9))
+                .andExpect(jsonPath("$[0].highlight").value("Fix <mark>login</mark> bug"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportTasks_ShouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"title\":\"Test Task\"}\n".getBytes());
+            return 1L;
+        }).when(taskExportService).exportTasks(eq(TaskExportService.ExportFormat.NDJSON), any());
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"title\":\"Test Task\"}\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskStats_ShouldServeCountsFromStatsService() throws Exception {
+        when(taskStatsService.getStatusCounts()).thenReturn(Map.of(
+                Task.TaskStatus.TODO, 3L, Task.TaskStatus.IN_PROGRESS, 2L, Task.TaskStatus.DONE, 5L));
+
+        mockMvc.perform(get("/api/tasks/stats/count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todoCount").value(3))
+                .andExpect(jsonPath("$.inProgressCount").value(2))
+                .andExpect(jsonPath("$.doneCount").value(5))
+                .andExpect(jsonPath("$.totalCount").value(10));
+    }
+
+    @Test
+    @WithMockUser
+    void streamTasks_ShouldOpenEventStreamWithFilters() throws Exception {
+        UUID assigneeId = UUID.randomUUID();
+        when(taskChangeFeed.subscribe(Task.TaskStatus.TODO, assigneeId, "0:5")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tasks/stream")
+                        .param("status", "TODO")
+                        .param("assigneeId", assigneeId.toString())
+                        .header("Last-Event-ID", "0:5"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser
+    void streamTasks_ShouldReturn503_WhenConnectionLimitReached() throws Exception {
+        when(taskChangeFeed.subscribe(null, null, null)).thenReturn(null);
+
+        mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.enterprise.taskmanagement.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchRepositoryImplTest {
+
+    @Test
+    void highlight_ShouldEscapeTextAroundAndInsideTheMatch() {
+        String highlight = TaskSearchRepositoryImpl.highlight("<img src=x onerror=alert(1)> Fix <b>login</b>", "<b>login");
+
+        assertEquals("&lt;img src=x onerror=alert(1)&gt; Fix <mark>&lt;b&gt;login</mark>&lt;/b&gt;", highlight);
+    }
+
+    @Test
+    void highlight_ShouldEscapeText_WhenNothingMatches() {
+        assertEquals("&lt;script&gt;", TaskSearchRepositoryImpl.highlight("<script>", "login"));
+    }
+
+    @Test
+    void markHeadline_ShouldEscapeHeadlineAndTurnPlaceholdersIntoTags() {
+        String headline = "<script>x</script> fix \u0002login\u0003 bug";
+
+        assertEquals("&lt;script&gt;x&lt;/script&gt; fix <mark>login</mark> bug",
+            TaskSearchRepositoryImpl.markHeadline(headline));
+    }
+}
@@ -0,0 +1,88 @@
+package com.enterprise.taskmanagement.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = filterWithSecret(SECRET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldAuthenticateSubject_WhenTokenIsValid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token("alice", Duration.ofMinutes(5)));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("alice", authentication.getPrincipal());
+    }
+
+    @Test
+    void verify_ShouldServeRepeatedTokenFromCache() {
+        String token = token("alice", Duration.ofMinutes(5));
+
+        assertSame(filter.verify(token), filter.verify(token));
+    }
+
+    @Test
+    void verify_ShouldRejectTamperedAndExpiredTokens() {
+        String token = token("alice", Duration.ofMinutes(5));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(filter.verify(tampered));
+        assertNull(filter.verify(token("alice", Duration.ofMinutes(-1))));
+    }
+
+    @Test
+    void verify_ShouldRejectEverything_WhenSecretIsTooWeak() {
+        JwtAuthenticationFilter weak = filterWithSecret("mySecretKey");
+
+        assertNull(weak.verify(token("alice", Duration.ofMinutes(5))));
+    }
+
+    private static JwtAuthenticationFilter filterWithSecret(String secret) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtSecret", secret);
+        ReflectionTestUtils.setField(filter, "tokenCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(filter, "tokenCacheTimeToLive", Duration.ofMinutes(5));
+        filter.init();
+        return filter;
+    }
+
+    private static String token(String subject, Duration validFor) {
+        return Jwts.builder()
+            .subject(subject)
+            .expiration(new Date(System.currentTimeMillis() + validFor.toMillis()))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+}
@@ -0,0 +1,134 @@
+package com.enterprise.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimiter rateLimiter;
+    private LoadShedder loadShedder;
+    private RateLimitFilter filter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "requestsPerSecond", 1.0);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 2);
+        ReflectionTestUtils.setField(rateLimiter, "idleTimeout", Duration.ofMinutes(10));
+        rateLimiter.clock = () -> now;
+        rateLimiter.init();
+
+        loadShedder = new LoadShedder();
+        ReflectionTestUtils.setField(loadShedder, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(loadShedder, "dataSource", mock(DataSource.class));
+        ReflectionTestUtils.setField(loadShedder, "enabled", true);
+        ReflectionTestUtils.setField(loadShedder, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(loadShedder, "retryAfter", Duration.ofSeconds(2));
+        loadShedder.init();
+
+        filter = new RateLimitFilter(rateLimiter, loadShedder, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldReturn429WithRetryAfter_WhenCallerExceedsRate() throws Exception {
+        authenticate("alice");
+
+        assertEquals(200, send().getStatus());
+        assertEquals(200, send().getStatus());
+        MockHttpServletResponse limited = send();
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("1", limited.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("api.requests.rejected").tag("reason", "rate_limited").counter().count());
+
+        authenticate("bob");
+        assertEquals(200, send().getStatus());
+
+        now += Duration.ofSeconds(1).toNanos();
+        authenticate("alice");
+        assertEquals(200, send().getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldReturn503WithRetryAfter_WhenConcurrencyLimitReached() throws Exception {
+        authenticate("alice");
+        assertTrue(loadShedder.tryEnter());
+
+        MockHttpServletResponse shed = send();
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+
+        loadShedder.exit();
+        assertEquals(200, send().getStatus());
+        assertEquals(0, loadShedder.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldNotLimitOtherPaths() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+            request.setServletPath("/auth/login");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void adjust_ShouldLowerLimitWhileConnectionAcquiresAreSlow() {
+        ReflectionTestUtils.setField(loadShedder, "maxConcurrency", 100);
+        ReflectionTestUtils.setField(loadShedder, "minConcurrency", 10);
+        ReflectionTestUtils.setField(loadShedder, "targetAcquireTime", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(loadShedder, "maxPendingConnections", 10);
+        ReflectionTestUtils.setField(loadShedder, "backoffRatio", 0.5);
+        loadShedder.init();
+
+        meterRegistry.timer("hikaricp.connections.acquire").record(Duration.ofMillis(500));
+        loadShedder.adjust();
+        assertEquals(50, loadShedder.getLimit());
+
+        meterRegistry.timer("hikaricp.connections.acquire").record(Duration.ofMillis(1));
+        loadShedder.adjust();
+        assertEquals(51, loadShedder.getLimit());
+    }
+
+    private MockHttpServletResponse send() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setServletPath("/api/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
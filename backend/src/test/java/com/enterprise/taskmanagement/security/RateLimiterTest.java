@@ -0,0 +1,91 @@
+package com.enterprise.taskmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private RateLimiter rateLimiter;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rateLimiter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "requestsPerSecond", 10.0);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 10);
+        ReflectionTestUtils.setField(rateLimiter, "shared", true);
+        ReflectionTestUtils.setField(rateLimiter, "window", Duration.ofHours(1));
+        ReflectionTestUtils.setField(rateLimiter, "idleTimeout", Duration.ofMinutes(10));
+        rateLimiter.clock = () -> now;
+        rateLimiter.init();
+    }
+
+    @Test
+    void tryAcquire_ShouldReturnTimeUntilNextToken_WhenBucketIsEmpty() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("user:alice"));
+        }
+
+        assertEquals(Duration.ofMillis(100).toNanos(), rateLimiter.tryAcquire("user:alice"), 1);
+
+        now += Duration.ofMillis(100).toNanos();
+        assertEquals(0, rateLimiter.tryAcquire("user:alice"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_ShouldChargeRequestsAdmittedByOtherInstances() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("user:alice");
+        }
+        // 3 admitted here, 6 elsewhere: only one token is left of the burst of 10
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(9L, true));
+
+        rateLimiter.sync();
+
+        assertEquals(0, rateLimiter.tryAcquire("user:alice"));
+        assertTrue(rateLimiter.tryAcquire("user:alice") > 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_ShouldKeepCountsForNextAttempt_WhenRedisIsUnavailable() {
+        rateLimiter.tryAcquire("user:alice");
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenThrow(new QueryTimeoutException("Redis down"))
+            .thenReturn(List.of(2L, true));
+
+        rateLimiter.sync();
+        rateLimiter.tryAcquire("user:alice");
+        rateLimiter.sync();
+
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        // Both requests reached the shared counter, so none is attributed to other instances
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("user:alice"));
+        }
+    }
+}
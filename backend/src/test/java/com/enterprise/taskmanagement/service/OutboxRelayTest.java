@@ -0,0 +1,76 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.OutboxEvent;
+import com.enterprise.taskmanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private SendResult<String, byte[]> sendResult;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(outboxRelay, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    void publishBatch_ShouldDeleteOnlyAcknowledgedEvents() {
+        OutboxEvent created = new OutboxEvent("task-events", "task.created", UUID.randomUUID(), new byte[] {1});
+        OutboxEvent deleted = new OutboxEvent("task-events", "task.deleted", UUID.randomUUID(), new byte[] {2});
+        when(outboxEventRepository.lockNextBatch(PageRequest.of(0, 10))).thenReturn(Arrays.asList(created, deleted));
+        // Keyed by task id, so a task's events stay in order on one partition
+        when(kafkaTemplate.send("task-events", created.getAggregateId().toString(), created.getPayload()))
+            .thenReturn(CompletableFuture.completedFuture(sendResult));
+        when(kafkaTemplate.send("task-events", deleted.getAggregateId().toString(), deleted.getPayload()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        int published = outboxRelay.publishBatch();
+
+        assertEquals(1, published);
+        verify(outboxEventRepository).deleteAllInBatch(List.of(created));
+        assertEquals(1, meterRegistry.get("outbox.relay.send").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("outbox.relay.send").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void publishBatch_ShouldNotTouchKafka_WhenOutboxIsEmpty() {
+        when(outboxEventRepository.lockNextBatch(PageRequest.of(0, 10))).thenReturn(List.of());
+
+        assertEquals(0, outboxRelay.publishBatch());
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
@@ -0,0 +1,95 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.ArchivedTask;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskArchiveRepository;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TaskCacheWriter taskCacheWriter;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @InjectMocks
+    private TaskArchiveService taskArchiveService;
+
+    private final LocalDateTime cutoff = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskArchiveService, "batchSize", 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveBatch_ShouldMoveTasksToArchiveAndRemoveThemFromLiveViews() {
+        Task task = new Task("Shipped", "Long finished", Task.TaskStatus.DONE, Task.TaskPriority.LOW, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setVersion(5L);
+        task.setCreatedAt(cutoff.minusMonths(6));
+        task.setUpdatedAt(cutoff.minusMonths(4));
+        when(taskRepository.lockArchivable(Task.TaskStatus.DONE, cutoff, PageRequest.of(0, 100))).thenReturn(List.of(task));
+
+        assertEquals(1, taskArchiveService.archiveBatch(cutoff));
+
+        ArgumentCaptor<List<ArchivedTask>> archived = ArgumentCaptor.forClass(List.class);
+        verify(taskArchiveRepository).saveAll(archived.capture());
+        ArchivedTask copy = archived.getValue().get(0);
+        assertEquals(task.getId(), copy.getId());
+        assertEquals("Long finished", copy.getDescription());
+        assertEquals(task.getUpdatedAt(), copy.getUpdatedAt());
+        assertTrue(copy.isNew());
+        verify(taskRepository).deleteAllInBatchByPartition(List.of(task));
+        verify(taskTombstoneRepository).saveAll(argThat(tombstones -> tombstones.iterator().next().getTaskId().equals(task.getId())));
+        verify(outboxService).append(eq("task-events"), argThat(event -> event.getType() == TaskEvent.Type.DELETED
+            && event.getVersion() == 5L));
+        verify(taskCacheWriter).tasksChanged(List.of(task.getId()), List.of(Task.TaskStatus.DONE));
+        verify(taskStatsService).tasksDeleted(List.of(task));
+    }
+
+    @Test
+    void archiveBatch_ShouldDoNothing_WhenNoTaskIsDue() {
+        when(taskRepository.lockArchivable(Task.TaskStatus.DONE, cutoff, PageRequest.of(0, 100))).thenReturn(List.of());
+
+        assertEquals(0, taskArchiveService.archiveBatch(cutoff));
+
+        verifyNoInteractions(taskArchiveRepository, taskTombstoneRepository, outboxService, taskCacheWriter, taskStatsService);
+    }
+}
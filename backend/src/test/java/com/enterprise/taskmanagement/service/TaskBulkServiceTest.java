@@ -0,0 +1,153 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.BulkTaskResult;
+import com.enterprise.taskmanagement.dto.TaskBulkUpdateRequest;
+import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TaskCacheWriter taskCacheWriter;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TaskBulkService taskBulkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskBulkService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(taskBulkService, "chunkSize", 2);
+        ReflectionTestUtils.setField(taskBulkService, "maxItems", 10);
+        lenient().when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void createTasks_ShouldReportInvalidItemsAndSaveTheRestInChunks() {
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(UUID.randomUUID()));
+            return tasks;
+        });
+
+        BulkTaskResult result = taskBulkService.createTasks(Arrays.asList(
+            request("First"), request(""), request("Second"), request("Third")));
+
+        assertEquals(3, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkTaskResult.Outcome.FAILED, result.getResults().get(1).getOutcome());
+        assertTrue(result.getResults().get(1).getError().contains("title"));
+        assertEquals(BulkTaskResult.Outcome.CREATED, result.getResults().get(3).getOutcome());
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(outboxService, times(3)).append(eq("task-events"), argThat(event -> event.getType() == TaskEvent.Type.CREATED));
+    }
+
+    @Test
+    void createTasks_ShouldRetryFailedChunkItemByItem() {
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Bad"))) {
+                throw new DataIntegrityViolationException("constraint violated");
+            }
+            tasks.forEach(task -> task.setId(UUID.randomUUID()));
+            return tasks;
+        });
+
+        BulkTaskResult result = taskBulkService.createTasks(Arrays.asList(request("Good"), request("Bad")));
+
+        assertEquals(BulkTaskResult.Outcome.CREATED, result.getResults().get(0).getOutcome());
+        assertEquals(BulkTaskResult.Outcome.FAILED, result.getResults().get(1).getOutcome());
+        assertEquals("constraint violated", result.getResults().get(1).getError());
+    }
+
+    @Test
+    void updateTasks_ShouldFailMissingTasksOnly() {
+        Task existing = new Task("Task", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, null);
+        existing.setId(UUID.randomUUID());
+        UUID missingId = UUID.randomUUID();
+        when(taskRepository.findAllById(Arrays.asList(existing.getId(), missingId))).thenReturn(List.of(existing));
+
+        TaskBulkUpdateRequest update = new TaskBulkUpdateRequest(existing.getId());
+        update.setStatus(Task.TaskStatus.DONE);
+        BulkTaskResult result = taskBulkService.updateTasks(Arrays.asList(update, new TaskBulkUpdateRequest(missingId)));
+
+        assertEquals(BulkTaskResult.Outcome.UPDATED, result.getResults().get(0).getOutcome());
+        assertEquals(Task.TaskStatus.DONE, existing.getStatus());
+        assertEquals(BulkTaskResult.Outcome.FAILED, result.getResults().get(1).getOutcome());
+        assertEquals(missingId, result.getResults().get(1).getId());
+        verify(taskStatsService).tasksUpdated(argThat(previous -> previous.get(0).getStatus() == Task.TaskStatus.TODO),
+                                              eq(List.of(existing)));
+    }
+
+    @Test
+    void updateTasks_ShouldRejectRepeatedIds() {
+        Task existing = new Task("Task", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, null);
+        existing.setId(UUID.randomUUID());
+        when(taskRepository.findAllById(List.of(existing.getId()))).thenReturn(List.of(existing));
+
+        TaskBulkUpdateRequest start = new TaskBulkUpdateRequest(existing.getId());
+        start.setStatus(Task.TaskStatus.IN_PROGRESS);
+        TaskBulkUpdateRequest finish = new TaskBulkUpdateRequest(existing.getId());
+        finish.setStatus(Task.TaskStatus.DONE);
+        BulkTaskResult result = taskBulkService.updateTasks(Arrays.asList(start, finish));
+
+        assertEquals(BulkTaskResult.Outcome.UPDATED, result.getResults().get(0).getOutcome());
+        assertEquals(BulkTaskResult.Outcome.FAILED, result.getResults().get(1).getOutcome());
+        assertTrue(result.getResults().get(1).getError().startsWith("Duplicate id"));
+        assertEquals(Task.TaskStatus.IN_PROGRESS, existing.getStatus());
+        verify(outboxService, times(1)).append(eq("task-events"), any(TaskEvent.class));
+        verify(taskStatsService).tasksUpdated(argThat(previous -> previous.size() == 1), eq(List.of(existing)));
+    }
+
+    @Test
+    void deleteTasks_ShouldRejectOversizedRequest() {
+        List<UUID> ids = java.util.Collections.nCopies(11, UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.deleteTasks(ids));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static TaskCreateRequest request(String title) {
+        return new TaskCreateRequest(title, null, null, null, null);
+    }
+}
@@ -0,0 +1,196 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeFeedTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private TaskChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TaskChangeFeed() {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new RecordingEmitter();
+            }
+        };
+        ReflectionTestUtils.setField(feed, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(feed, "executor", (Executor) pendingDrains::add);
+        ReflectionTestUtils.setField(feed, "maxConnections", 2);
+        ReflectionTestUtils.setField(feed, "bufferSize", 3);
+        ReflectionTestUtils.setField(feed, "replaySize", 4);
+        ReflectionTestUtils.setField(feed, "timeout", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void publish_ShouldSendMatchingChangesAndRemovalsToFilteredSubscriber() {
+        RecordingEmitter todo = (RecordingEmitter) feed.subscribe(Task.TaskStatus.TODO, null, null);
+        Task task = task(Task.TaskStatus.TODO);
+
+        feed.publish(0, 10, created(task));
+        feed.publish(0, 11, created(task(Task.TaskStatus.DONE)));
+        Task previous = new Task(task);
+        task.setStatus(Task.TaskStatus.DONE);
+        feed.publish(0, 12, TaskEventCodec.encode(TaskEvent.updated(previous, task)));
+        feed.publish(1, 5, TaskEventCodec.encode(TaskEvent.deleted(task.getId(), 1L)));
+        drain();
+
+        assertEquals(List.of("task.created", "task.removed", "task.deleted"), todo.names());
+        assertEquals(List.of("0:10", "0:12", "0:12,1:5"), todo.ids());
+    }
+
+    @Test
+    void publish_ShouldNotSendRemovals_ForUpdatesOfTasksOutsideTheFilter() {
+        RecordingEmitter done = (RecordingEmitter) feed.subscribe(Task.TaskStatus.DONE, null, null);
+        Task task = task(Task.TaskStatus.TODO);
+        Task previous = new Task(task);
+        task.setTitle("Renamed");
+        feed.publish(0, 1, TaskEventCodec.encode(TaskEvent.updated(previous, task)));
+        previous = new Task(task);
+        task.setStatus(Task.TaskStatus.IN_PROGRESS);
+        feed.publish(0, 2, TaskEventCodec.encode(TaskEvent.updated(previous, task)));
+        previous = new Task(task);
+        task.setStatus(Task.TaskStatus.DONE);
+        feed.publish(0, 3, TaskEventCodec.encode(TaskEvent.updated(previous, task)));
+        drain();
+
+        assertEquals(List.of("task.updated"), done.names());
+        assertEquals(List.of("0:3"), done.ids());
+    }
+
+    @Test
+    void subscribe_ShouldReplayEventsAfterLastEventId() {
+        feed.publish(0, 1, created(task(Task.TaskStatus.TODO)));
+        feed.publish(1, 1, created(task(Task.TaskStatus.TODO)));
+        feed.publish(0, 2, created(task(Task.TaskStatus.TODO)));
+
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(null, null, "0:1,1:1");
+        drain();
+
+        assertEquals(List.of("0:2,1:1"), resumed.ids());
+    }
+
+    @Test
+    void subscribe_ShouldAskForResync_WhenMissedEventsAreNoLongerRetained() {
+        for (int offset = 1; offset <= 6; offset++) {
+            feed.publish(0, offset, created(task(Task.TaskStatus.TODO)));
+        }
+
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(null, null, "0:1");
+        drain();
+
+        assertEquals(List.of(TaskChangeFeed.RESYNC_EVENT), resumed.names());
+        assertEquals(List.of("0:6"), resumed.ids());
+    }
+
+    @Test
+    void publish_ShouldResyncAndCloseSubscriber_WhenBufferOverflows() {
+        RecordingEmitter slow = (RecordingEmitter) feed.subscribe(null, null, null);
+
+        for (int offset = 1; offset <= 4; offset++) {
+            feed.publish(0, offset, created(task(Task.TaskStatus.TODO)));
+        }
+        drain();
+
+        assertEquals(List.of(TaskChangeFeed.RESYNC_EVENT), slow.names());
+        assertTrue(slow.completed);
+        assertEquals(0, feed.getConnectionCount());
+    }
+
+    @Test
+    void publish_ShouldSkipUnreadableRecordButAdvancePosition() {
+        RecordingEmitter all = (RecordingEmitter) feed.subscribe(null, null, null);
+
+        feed.publish(0, 1, "{\"title\":\"legacy\"}".getBytes());
+        feed.publish(0, 2, created(task(Task.TaskStatus.TODO)));
+        drain();
+
+        assertEquals(List.of("task.created"), all.names());
+        assertEquals(List.of("0:2"), all.ids());
+    }
+
+    @Test
+    void subscribe_ShouldReturnNull_WhenConnectionLimitReached() {
+        assertNotNull(feed.subscribe(null, null, null));
+        assertNotNull(feed.subscribe(null, null, null));
+
+        assertNull(feed.subscribe(null, null, null));
+    }
+
+    private void drain() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.remove(0).run();
+        }
+    }
+
+    private static byte[] created(Task task) {
+        return TaskEventCodec.encode(TaskEvent.created(task));
+    }
+
+    private static Task task(Task.TaskStatus status) {
+        Task task = new Task("Task", "Description", status, Task.TaskPriority.MEDIUM, null);
+        task.setId(UUID.randomUUID());
+        return task;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> names() {
+            return field("event:");
+        }
+
+        List<String> ids() {
+            return field("id:");
+        }
+
+        private List<String> field(String prefix) {
+            List<String> values = new ArrayList<>();
+            for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                String text = event.stream()
+                    .filter(part -> part.getMediaType() == null || MediaType.TEXT_PLAIN.includes(part.getMediaType()))
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+                for (String line : text.split("\n")) {
+                    if (line.startsWith(prefix)) {
+                        values.add(line.substring(prefix.length()));
+                    }
+                }
+            }
+            return values;
+        }
+    }
+}
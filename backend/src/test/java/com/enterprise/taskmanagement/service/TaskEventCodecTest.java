@@ -0,0 +1,126 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventCodecTest {
+
+    @Test
+    void decode_ShouldRestoreCreatedEvent() throws Exception {
+        Task task = task();
+
+        byte[] bytes = TaskEventCodec.encode(TaskEvent.created(task));
+        TaskEvent event = TaskEventCodec.decode(bytes);
+
+        assertEquals(TaskEvent.Type.CREATED, event.getType());
+        assertEquals(task.getId(), event.getTaskId());
+        assertEquals(7L, event.getVersion());
+        assertEquals(EnumSet.range(TaskEvent.Field.TITLE, TaskEvent.Field.CREATED_AT), event.getFields());
+        Task values = event.getValues();
+        assertEquals(task.getTitle(), values.getTitle());
+        assertEquals(task.getDescription(), values.getDescription());
+        assertEquals(task.getStatus(), values.getStatus());
+        assertEquals(task.getPriority(), values.getPriority());
+        assertEquals(task.getAssigneeId(), values.getAssigneeId());
+        assertEquals(task.getCreatedAt(), values.getCreatedAt());
+        String json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(task);
+        assertTrue(bytes.length < json.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    void decode_ShouldRestoreOnlyChangedFieldsOfUpdate() {
+        Task previous = task();
+        Task current = new Task(previous);
+        current.setPriority(Task.TaskPriority.LOW);
+        current.setDescription(null);
+        current.setVersion(8L);
+
+        TaskEvent event = TaskEventCodec.decode(TaskEventCodec.encode(TaskEvent.updated(previous, current)));
+
+        assertEquals(EnumSet.of(TaskEvent.Field.DESCRIPTION, TaskEvent.Field.STATUS, TaskEvent.Field.PRIORITY,
+            TaskEvent.Field.ASSIGNEE_ID), event.getFields());
+        assertEquals(8L, event.getVersion());
+        assertEquals(Task.TaskPriority.LOW, event.getValues().getPriority());
+        assertNull(event.getValues().getTitle());
+        // A cleared field is carried as null rather than left out
+        assertTrue(event.toMap().containsKey("description"));
+        assertNull(event.toMap().get("description"));
+        assertFalse(event.toMap().containsKey("title"));
+    }
+
+    @Test
+    void decode_ShouldRestorePreviousStatusAndAssignee_WhenUpdateMovedThem() {
+        Task previous = task();
+        Task current = new Task(previous);
+        current.setStatus(Task.TaskStatus.DONE);
+        current.setAssigneeId(null);
+
+        TaskEvent event = TaskEventCodec.decode(TaskEventCodec.encode(TaskEvent.updated(previous, current)));
+
+        assertEquals(Task.TaskStatus.IN_PROGRESS, event.getPreviousStatus());
+        assertEquals(previous.getAssigneeId(), event.getPreviousAssigneeId());
+        assertEquals(Task.TaskStatus.DONE, event.getValues().getStatus());
+        assertNull(event.getValues().getAssigneeId());
+        assertFalse(event.toMap().containsKey("previousStatus"));
+    }
+
+    @Test
+    void decode_ShouldReadFormatVersionOneEvents() {
+        Task previous = task();
+        Task current = new Task(previous);
+        current.setTitle("Renamed");
+        byte[] bytes = TaskEventCodec.encode(TaskEvent.updated(previous, current));
+        bytes[1] = 1;
+
+        TaskEvent event = TaskEventCodec.decode(bytes);
+
+        assertEquals("Renamed", event.getValues().getTitle());
+        assertEquals(Task.TaskStatus.IN_PROGRESS, event.getPreviousStatus());
+    }
+
+    @Test
+    void decode_ShouldRestoreDeletedEvent() {
+        UUID id = UUID.randomUUID();
+
+        TaskEvent event = TaskEventCodec.decode(TaskEventCodec.encode(TaskEvent.deleted(id, null)));
+
+        assertEquals(TaskEvent.Type.DELETED, event.getType());
+        assertEquals(id, event.getTaskId());
+        assertNull(event.getVersion());
+        assertTrue(event.getFields().isEmpty());
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownOrTruncatedInput() {
+        byte[] bytes = TaskEventCodec.encode(TaskEvent.created(task()));
+
+        byte[] newer = bytes.clone();
+        newer[1] = TaskEventCodec.FORMAT_VERSION + 1;
+        byte[] truncated = Arrays.copyOf(bytes, 20);
+
+        assertThrows(IllegalArgumentException.class, () -> TaskEventCodec.decode(newer));
+        assertThrows(IllegalArgumentException.class, () -> TaskEventCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class,
+            () -> TaskEventCodec.decode("{\"id\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Task task() {
+        Task task = new Task("Write docs", "Describe the event format", Task.TaskStatus.IN_PROGRESS,
+            Task.TaskPriority.HIGH, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setVersion(7L);
+        task.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123456789));
+        return task;
+    }
+}
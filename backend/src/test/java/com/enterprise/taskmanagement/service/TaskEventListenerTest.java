@@ -0,0 +1,26 @@
+package com.enterprise.taskmanagement.service;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class TaskEventListenerTest {
+
+    @Test
+    void onPartitionsAssigned_ShouldStartAtLiveEndWhateverTheGroupCommitted() {
+        TaskEventListener listener = new TaskEventListener();
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+        Map<TopicPartition, Long> assignments = Map.of(
+            new TopicPartition(TaskService.TASK_EVENTS_TOPIC, 0), 42L,
+            new TopicPartition(TaskService.TASK_EVENTS_TOPIC, 1), 7L);
+
+        listener.onPartitionsAssigned(assignments, callback);
+
+        verify(callback).seekToEnd(assignments.keySet());
+        verifyNoMoreInteractions(callback);
+    }
+}
@@ -0,0 +1,93 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private TaskExportService taskExportService;
+
+    private Task first;
+    private Task second;
+
+    @BeforeEach
+    void setUp() {
+        first = task("First", "Plain description");
+        second = task("Second, with comma", "Says \"hi\"\non two lines");
+    }
+
+    @Test
+    void exportTasks_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportTasks(TaskExportService.ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals("First", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals("Second, with comma", objectMapper.readTree(lines[1]).get("title").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportTasks_ShouldQuoteCsvFieldsThatNeedIt() throws Exception {
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportTasks(TaskExportService.ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(1, count);
+        assertTrue(csv.startsWith("id,title,description,status,priority,assigneeId,createdAt,updatedAt\n"));
+        assertTrue(csv.contains(",\"Second, with comma\",\"Says \"\"hi\"\"\non two lines\",TODO,MEDIUM,"));
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportFormat_ShouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> TaskExportService.ExportFormat.fromParameter("xml"));
+    }
+
+    private Task task(String title, String description) {
+        Task task = new Task(title, description, Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 30));
+        task.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 9, 30));
+        return task;
+    }
+}
@@ -0,0 +1,144 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskProjectionListenerTest {
+
+    @Mock
+    private TaskProjection taskProjection;
+
+    @Mock
+    private TaskCacheWriter taskCacheWriter;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TaskProjectionListener listener;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        task = new Task("Projected", null, Task.TaskStatus.TODO, Task.TaskPriority.HIGH, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setVersion(3L);
+        task.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 0));
+    }
+
+    @Test
+    void apply_ShouldRepairFromDatabaseAndEvictStatusLists_WhenEventLeavesGap() {
+        Task previous = new Task(task);
+        task.setStatus(Task.TaskStatus.DONE);
+        task.setVersion(4L);
+        TaskEvent event = TaskEvent.updated(previous, task);
+        when(taskProjection.apply(argThatEvent(task.getId()), any())).thenReturn(TaskProjection.Outcome.GAP);
+        when(taskProjection.repair(eq(task.getId()), any())).thenAnswer(invocation -> {
+            Set<Task.TaskStatus> changed = invocation.getArgument(1);
+            changed.add(Task.TaskStatus.TODO);
+            changed.add(Task.TaskStatus.DONE);
+            return TaskProjection.Outcome.APPLIED;
+        });
+
+        listener.apply(record(TaskEventCodec.encode(event)));
+
+        verify(taskProjection).repair(eq(task.getId()), any());
+        verify(taskCacheWriter).tasksChanged(List.of(), EnumSet.of(Task.TaskStatus.TODO, Task.TaskStatus.DONE));
+        assertEquals(1.0, meterRegistry.counter("task.projection.events", "outcome", "repaired").count());
+    }
+
+    @Test
+    void apply_ShouldSkipUnreadableEvent() {
+        listener.apply(record("{\"id\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+
+        verifyNoInteractions(taskProjection, taskCacheWriter);
+        assertEquals(1.0, meterRegistry.counter("task.projection.events", "outcome", "unreadable").count());
+    }
+
+    @Test
+    void apply_ShouldRequestRebuild_WhenRedisFails() {
+        when(taskProjection.apply(any(), any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+
+        listener.apply(record(TaskEventCodec.encode(TaskEvent.created(task))));
+
+        verify(taskProjection).markRebuildNeeded();
+        verify(taskProjection, never()).repair(any(), any());
+        verifyNoInteractions(taskCacheWriter);
+    }
+
+    @Test
+    void onPartitionsRevoked_ShouldForgetReportedLagOfRevokedPartitions() {
+        listener.onPartitionsRevoked(List.of(
+            new TopicPartition(TaskService.TASK_EVENTS_TOPIC, 1),
+            new TopicPartition(TaskService.TASK_EVENTS_TOPIC, 2)));
+
+        verify(taskProjection).forgetLag(List.of(1, 2));
+    }
+
+    @Test
+    void onPartitionsRevoked_ShouldStillRelease_WhenRedisFails() {
+        doThrow(new QueryTimeoutException("Redis command timed out")).when(taskProjection).forgetLag(any());
+
+        assertDoesNotThrow(() -> listener.onPartitionsRevoked(List.of(new TopicPartition(TaskService.TASK_EVENTS_TOPIC, 1))));
+    }
+
+    @Test
+    void fields_ShouldMapEventToProjectedDocument() {
+        Task previous = new Task(task);
+        task.setAssigneeId(null);
+        task.setTitle("Renamed");
+        task.setVersion(4L);
+        TaskEvent event = TaskEvent.updated(previous, task);
+        Map<String, String> values = new HashMap<>();
+        List<String> cleared = new ArrayList<>();
+
+        TaskProjection.fields(event, values, cleared);
+        values.put("version", "4");
+        Task projected = TaskProjection.toTask(task.getId(), values);
+
+        assertEquals(List.of("assigneeId"), cleared);
+        // Status is carried by every update, so filtered consumers can tell where the task now belongs
+        assertEquals(Set.of("title", "status", "updatedAt", "version"), values.keySet());
+        assertEquals("Renamed", projected.getTitle());
+        assertEquals(event.getOccurredAt(), projected.getUpdatedAt());
+        assertEquals(4L, projected.getVersion());
+    }
+
+    private static TaskEvent argThatEvent(UUID taskId) {
+        return argThat(event -> event.getTaskId().equals(taskId));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] value) {
+        return new ConsumerRecord<>(TaskService.TASK_EVENTS_TOPIC, 0, 42L, "key", value);
+    }
+}
@@ -1,23 +1,42 @@
 package com.enterprise.taskmanagement.service;
 
+import com.enterprise.taskmanagement.cache.StatusListGenerations;
+import com.enterprise.taskmanagement.cache.TaskCacheReader;
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.config.CacheConfig;
 import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskCursor;
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.dto.TaskPage;
+import com.enterprise.taskmanagement.dto.TaskPatch;
+import com.enterprise.taskmanagement.dto.TaskSearchHit;
+import com.enterprise.taskmanagement.dto.TaskUpdateRequest;
 import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskPatchRepository;
 import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +46,26 @@ class TaskServiceTest {
     private TaskRepository taskRepository;
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private ConcurrentMapCacheManager cacheManager =
+        new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE, CacheConfig.TASK_IDS_BY_STATUS_CACHE);
+
+    @Spy
+    private TaskCacheReader taskCacheReader = new TaskCacheReader(cacheManager, mock(StatusListGenerations.class));
+
+    @Mock
+    private TaskCacheWriter taskCacheWriter;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskProjection taskProjection;
 
     @InjectMocks
     private TaskService taskService;
@@ -64,6 +102,76 @@ class TaskServiceTest {
         verify(taskRepository).findAll();
     }
 
+    @Test
+    void findTasksAfter_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        Task first = taskAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        Task second = taskAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(taskRepository.findFirstPage(PageRequest.of(0, 2))).thenReturn(Arrays.asList(first, second));
+
+        TaskPage<Task> page = taskService.findTasksAfter(null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.hasNext());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(first.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(first.getId(), cursor.getId());
+    }
+
+    @Test
+    void findTasksAfter_ShouldSeekPastCursor() {
+        Task last = taskAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        String cursor = new TaskCursor(LocalDateTime.of(2024, 1, 2, 10, 0), taskId).encode();
+        when(taskRepository.findPageAfter(LocalDateTime.of(2024, 1, 2, 10, 0), taskId, PageRequest.of(0, 21)))
+            .thenReturn(Arrays.asList(last));
+
+        TaskPage<Task> page = taskService.findTasksAfter(cursor, 20);
+
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.hasNext());
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void searchTasks_ShouldComputeOffsetWithoutOverflow_ForDeepPages() {
+        int page = Integer.MAX_VALUE / 10;
+        when(taskRepository.search("test", (long) page * 20, 20)).thenReturn(List.of());
+
+        assertTrue(taskService.searchTasks("test", page, 20).isEmpty());
+    }
+
+    @Test
+    void findTasksAfter_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.findTasksAfter("not-a-cursor", 20));
+    }
+
+    @Test
+    void searchTasks_ShouldTranslatePageToOffsetAndCapSize() {
+        TaskSearchHit hit = new TaskSearchHit(testTask, 0.6, "<mark>Test</mark> Task");
+        when(taskRepository.search("test", 200, TaskService.MAX_PAGE_SIZE)).thenReturn(Arrays.asList(hit));
+
+        List<TaskSearchHit> hits = taskService.searchTasks("  test ", 2, 500);
+
+        assertEquals(1, hits.size());
+        assertEquals("<mark>Test</mark> Task", hits.get(0).getHighlight());
+    }
+
+    @Test
+    void findQueue_ShouldCapLimit() {
+        UUID assigneeId = UUID.randomUUID();
+        when(taskRepository.findTopTasksByAssigneeAndStatus(assigneeId, Task.TaskStatus.TODO,
+            PageRequest.of(0, TaskService.MAX_PAGE_SIZE))).thenReturn(Arrays.asList(testTask));
+
+        List<Task> queue = taskService.findQueue(assigneeId, Task.TaskStatus.TODO, 1000);
+
+        assertEquals(Arrays.asList(testTask), queue);
+    }
+
+    @Test
+    void searchTasks_ShouldRejectBlankKeyword() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("   ", 0, 20));
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void createTask_ShouldSaveAndReturnTask() {
         TaskCreateRequest request = new TaskCreateRequest("New Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.HIGH, UUID.randomUUID());
@@ -73,18 +181,115 @@ class TaskServiceTest {
 
         assertNotNull(result);
         verify(taskRepository).save(any(Task.class));
-        verify(kafkaTemplate).send(eq("task-events"), eq("task.created"), any(Task.class));
+        verify(outboxService).append(eq("task-events"), argThat(event -> event.getType() == TaskEvent.Type.CREATED));
+        verify(taskCacheWriter).taskSaved(testTask, null);
+        verify(taskStatsService).taskCreated(testTask);
+    }
+
+    @Test
+    void updateTask_ShouldWriteThroughWithPreviousStatus() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setStatus(Task.TaskStatus.DONE);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.saveAndFlush(testTask)).thenReturn(testTask);
+
+        Task result = taskService.updateTask(taskId, request);
+
+        assertEquals(Task.TaskStatus.DONE, result.getStatus());
+        // Only the changed fields, plus status and assignee, and the status it left, for stream filters
+        verify(outboxService).append(eq("task-events"), argThat(event -> event.getType() == TaskEvent.Type.UPDATED
+            && event.getFields().equals(EnumSet.of(TaskEvent.Field.STATUS, TaskEvent.Field.ASSIGNEE_ID,
+                TaskEvent.Field.PREVIOUS_STATUS))
+            && event.getPreviousStatus() == Task.TaskStatus.TODO));
+        verify(taskCacheWriter).taskSaved(testTask, Task.TaskStatus.TODO);
+        verify(taskStatsService).taskUpdated(argThat(previous -> previous.getStatus() == Task.TaskStatus.TODO), eq(testTask));
+    }
+
+    @Test
+    void patchTask_ShouldUseTheRowsReturnedByTheUpdate_WhenVersionExpected() throws Exception {
+        TaskPatch patch = TaskPatch.from(new ObjectMapper().readTree("{\"title\": \"Renamed\", \"status\": \"DONE\"}"));
+        Task patched = new Task(testTask);
+        patch.applyTo(patched);
+        when(taskRepository.patchIfVersion(taskId, 3L, patch))
+            .thenReturn(Optional.of(new TaskPatchRepository.PatchedTask(testTask, patched)));
+
+        Task result = taskService.patchTask(taskId, patch, 3L);
+
+        assertSame(patched, result);
+        verify(taskRepository).patchIfVersion(taskId, 3L, patch);
+        verifyNoMoreInteractions(taskRepository);
+        verify(taskCacheWriter).taskSaved(patched, Task.TaskStatus.TODO);
+        verify(taskStatsService).taskUpdated(testTask, patched);
+        verify(outboxService).append(eq("task-events"), argThat(event -> event.has(TaskEvent.Field.TITLE)
+            && !event.has(TaskEvent.Field.DESCRIPTION)
+            && event.getPreviousStatus() == Task.TaskStatus.TODO));
+    }
+
+    @Test
+    void patchTask_ShouldFailOptimistically_WhenVersionChanged() throws Exception {
+        TaskPatch patch = TaskPatch.from(new ObjectMapper().readTree("{\"status\": \"DONE\"}"));
+        when(taskRepository.patchIfVersion(taskId, 3L, patch)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.of(4L));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> taskService.patchTask(taskId, patch, 3L));
+
+        verifyNoInteractions(outboxService, taskCacheWriter, taskStatsService);
     }
 
     @Test
     void findByStatus_ShouldReturnTasksWithStatus() {
-        List<Task> tasks = Arrays.asList(testTask);
-        when(taskRepository.findByStatus(Task.TaskStatus.TODO)).thenReturn(tasks);
+        testTask.setId(taskId);
+        when(taskProjection.findByStatus(Task.TaskStatus.TODO)).thenReturn(null);
+        when(taskRepository.findIdsByStatus(Task.TaskStatus.TODO)).thenReturn(List.of(taskId));
+        when(taskRepository.findAllById(List.of(taskId))).thenReturn(List.of(testTask));
 
         List<Task> result = taskService.findByStatus(Task.TaskStatus.TODO);
 
-        assertEquals(1, result.size());
-        verify(taskRepository).findByStatus(Task.TaskStatus.TODO);
+        assertEquals(List.of(testTask), result);
+        verify(taskRepository).findIdsByStatus(Task.TaskStatus.TODO);
+    }
+
+    @Test
+    void findByStatus_ShouldResolveCachedIdsThroughTaskCache() {
+        Task other = new Task("Other", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, null);
+        other.setId(UUID.randomUUID());
+        testTask.setId(taskId);
+        when(taskProjection.findByStatus(Task.TaskStatus.TODO)).thenReturn(null);
+        when(taskRepository.findIdsByStatus(Task.TaskStatus.TODO)).thenReturn(List.of(other.getId(), taskId));
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).put(taskId, testTask);
+        when(taskRepository.findAllById(List.of(other.getId()))).thenReturn(List.of(other));
+        taskService.findByStatus(Task.TaskStatus.TODO);
+
+        // An edit that keeps the status replaces the task's entry and leaves the ids cached
+        Task edited = new Task(testTask);
+        edited.setId(taskId);
+        edited.setTitle("Edited");
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).put(taskId, edited);
+        List<Task> result = taskService.findByStatus(Task.TaskStatus.TODO);
+
+        assertEquals(List.of("Other", "Edited"), result.stream().map(Task::getTitle).toList());
+        verify(taskRepository).findIdsByStatus(Task.TaskStatus.TODO);
+        verify(taskRepository).findAllById(any());
+    }
+
+    @Test
+    void findByStatus_ShouldSkipIdsOfDeletedTasks() {
+        when(taskProjection.findByStatus(Task.TaskStatus.TODO)).thenReturn(null);
+        when(taskRepository.findIdsByStatus(Task.TaskStatus.TODO)).thenReturn(List.of(taskId));
+        when(taskRepository.findAllById(List.of(taskId))).thenReturn(List.of());
+
+        assertTrue(taskService.findByStatus(Task.TaskStatus.TODO).isEmpty());
+    }
+
+    @Test
+    void findByAssigneeId_ShouldReadProjection_WhenAvailable() {
+        UUID assigneeId = testTask.getAssigneeId();
+        when(taskProjection.findByAssigneeId(assigneeId)).thenReturn(List.of(testTask));
+
+        List<Task> result = taskService.findByAssigneeId(assigneeId);
+
+        assertEquals(List.of(testTask), result);
+        verify(taskRepository, never()).findByAssigneeId(any());
     }
 
     @Test
@@ -95,7 +300,11 @@ class TaskServiceTest {
 
         verify(taskRepository).findById(taskId);
         verify(taskRepository).delete(testTask);
-        verify(kafkaTemplate).send(eq("task-events"), eq("task.deleted"), eq(taskId.toString()));
+        verify(taskTombstoneRepository).save(argThat(tombstone -> tombstone.getTaskId().equals(taskId)));
+        verify(outboxService).append(eq("task-events"), argThat(event -> event.getType() == TaskEvent.Type.DELETED
+            && event.getTaskId().equals(taskId)));
+        verify(taskCacheWriter).taskDeleted(taskId, Task.TaskStatus.TODO);
+        verify(taskStatsService).taskDeleted(testTask);
     }
 
     @Test
@@ -107,4 +316,11 @@ class TaskServiceTest {
         verify(taskRepository).findById(taskId);
         verify(taskRepository, never()).delete(any());
     }
+
+    private Task taskAt(LocalDateTime createdAt) {
+        Task task = new Task("Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setCreatedAt(createdAt);
+        return task;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    @Test
+    void delta_ShouldOnlyTouchChangedDimensions() {
+        UUID assignee = UUID.randomUUID();
+        Task before = new Task("Task", null, Task.TaskStatus.TODO, Task.TaskPriority.HIGH, assignee);
+        Task after = new Task("Task", null, Task.TaskStatus.DONE, Task.TaskPriority.HIGH, assignee);
+
+        Map<String, Map<String, Long>> delta = TaskStatsService.delta(before, after);
+
+        assertEquals(Map.of(TaskStatsService.STATUS_KEY, Map.of("TODO", -1L, "DONE", 1L)), delta);
+    }
+
+    @Test
+    void delta_ShouldCountEveryDimensionOnCreate() {
+        UUID assignee = UUID.randomUUID();
+        Task created = new Task("Task", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, assignee);
+
+        Map<String, Map<String, Long>> delta = TaskStatsService.delta(null, created);
+
+        assertEquals(Map.of("TODO", 1L), delta.get(TaskStatsService.STATUS_KEY));
+        assertEquals(Map.of("LOW", 1L), delta.get(TaskStatsService.PRIORITY_KEY));
+        assertEquals(Map.of(assignee.toString(), 1L), delta.get(TaskStatsService.ASSIGNEE_KEY));
+    }
+
+    @Test
+    void getStatusCounts_ShouldReadCountersFromRedis() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(TaskStatsService.STATUS_KEY)).thenReturn(Map.of("TODO", "4", "DONE", "7"));
+
+        Map<Task.TaskStatus, Long> counts = taskStatsService.getStatusCounts();
+
+        assertEquals(4L, counts.get(Task.TaskStatus.TODO));
+        assertEquals(0L, counts.get(Task.TaskStatus.IN_PROGRESS));
+        assertEquals(7L, counts.get(Task.TaskStatus.DONE));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getStatusCounts_ShouldFallBackToSingleGroupByQuery_WhenRedisIsDown() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        when(taskRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(
+            new Object[] {Task.TaskStatus.TODO, 2L}, new Object[] {Task.TaskStatus.IN_PROGRESS, 1L}));
+
+        Map<Task.TaskStatus, Long> counts = taskStatsService.getStatusCounts();
+
+        assertEquals(2L, counts.get(Task.TaskStatus.TODO));
+        assertEquals(1L, counts.get(Task.TaskStatus.IN_PROGRESS));
+        assertEquals(0L, counts.get(Task.TaskStatus.DONE));
+        verify(taskRepository, times(1)).countGroupedByStatus();
+        verify(taskRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    void getStatusCounts_ShouldSeedUnderFence_WhenCounterIsMissing() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(TaskStatsService.STATUS_KEY)).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(TaskStatsService.STATUS_KEY + ":fence"), anyString(), any(Duration.class)))
+            .thenReturn(true);
+        when(taskRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(new Object[] {Task.TaskStatus.TODO, 3L}));
+        when(redisTemplate.execute(same(TaskStatsService.REPLACE_SCRIPT), anyList(), any(Object[].class))).thenReturn(1L);
+
+        Map<Task.TaskStatus, Long> counts = taskStatsService.getStatusCounts();
+
+        assertEquals(3L, counts.get(Task.TaskStatus.TODO));
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        InOrder inOrder = inOrder(valueOperations, taskRepository, redisTemplate);
+        inOrder.verify(valueOperations).setIfAbsent(eq(TaskStatsService.STATUS_KEY + ":fence"), token.capture(), any(Duration.class));
+        inOrder.verify(taskRepository).countGroupedByStatus();
+        inOrder.verify(redisTemplate).execute(same(TaskStatsService.REPLACE_SCRIPT),
+            eq(List.of(TaskStatsService.STATUS_KEY, TaskStatsService.STATUS_KEY + ":fence", TaskStatsService.STATUS_KEY + ":journal")),
+            args.capture());
+        assertArrayEquals(new Object[] {token.getValue(), TaskStatsService.SEEDED_FIELD, "TODO", "3"}, args.getValue());
+    }
+
+    @Test
+    void getStatusCounts_ShouldNotRecount_WhenCounterIsSeededButEmpty() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(TaskStatsService.STATUS_KEY)).thenReturn(Map.of(TaskStatsService.SEEDED_FIELD, "1"));
+
+        Map<Task.TaskStatus, Long> counts = taskStatsService.getStatusCounts();
+
+        assertEquals(0L, counts.get(Task.TaskStatus.TODO));
+        assertEquals(0L, counts.get(Task.TaskStatus.DONE));
+        verifyNoInteractions(taskRepository);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void getStatusCounts_ShouldLeaveRedisAlone_WhenAnotherRecountHoldsTheFence() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(TaskStatsService.STATUS_KEY)).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(taskRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(new Object[] {Task.TaskStatus.DONE, 2L}));
+
+        assertEquals(2L, taskStatsService.getStatusCounts().get(Task.TaskStatus.DONE));
+
+        verify(redisTemplate, never()).execute(same(TaskStatsService.REPLACE_SCRIPT), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void taskCreated_ShouldIncrementEveryCounterInOneScript() {
+        UUID assignee = UUID.randomUUID();
+        Task created = new Task("Task", null, Task.TaskStatus.TODO, Task.TaskPriority.LOW, assignee);
+
+        taskStatsService.taskCreated(created);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(same(TaskStatsService.INCREMENT_SCRIPT), eq(List.of(
+            TaskStatsService.STATUS_KEY, TaskStatsService.STATUS_KEY + ":fence", TaskStatsService.STATUS_KEY + ":journal",
+            TaskStatsService.PRIORITY_KEY, TaskStatsService.PRIORITY_KEY + ":fence", TaskStatsService.PRIORITY_KEY + ":journal",
+            TaskStatsService.ASSIGNEE_KEY, TaskStatsService.ASSIGNEE_KEY + ":fence", TaskStatsService.ASSIGNEE_KEY + ":journal")),
+            args.capture());
+        assertArrayEquals(new Object[] {"1", "TODO", "1", "1", "LOW", "1", "1", assignee.toString(), "1"}, args.getValue());
+    }
+}
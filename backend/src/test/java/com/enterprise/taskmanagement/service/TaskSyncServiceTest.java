@@ -0,0 +1,116 @@
+package com.enterprise.taskmanagement.service;
+
+import com.enterprise.taskmanagement.dto.TaskChanges;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @InjectMocks
+    private TaskSyncService taskSyncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskSyncService, "settleTime", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(taskSyncService, "tombstoneRetention", Duration.ofDays(7));
+    }
+
+    @Test
+    void collectionVersion_ShouldTakeLatestOfUpdateAndDeletion() {
+        when(taskRepository.findLatestUpdatedAt()).thenReturn(SINCE);
+        when(taskTombstoneRepository.findLatestDeletedAt()).thenReturn(SINCE.plusSeconds(1));
+
+        assertEquals(SINCE.plusSeconds(1), taskSyncService.collectionVersion());
+    }
+
+    @Test
+    void collectionETag_ShouldBeWithheld_WhileLatestWriteIsWithinSettleTime() {
+        when(taskRepository.findLatestUpdatedAt()).thenReturn(LocalDateTime.now().minusSeconds(1));
+
+        assertNull(taskSyncService.collectionETag());
+    }
+
+    @Test
+    void collectionETag_ShouldTagSettledVersion() {
+        when(taskRepository.findLatestUpdatedAt()).thenReturn(SINCE);
+
+        assertEquals(TaskSyncService.etag(SINCE), taskSyncService.collectionETag());
+    }
+
+    @Test
+    void findChangesSince_ShouldNotSplitTasksSharingUpdatedAtAcrossPages() {
+        Task first = taskUpdatedAt(SINCE.plusSeconds(1));
+        Task tiedA = taskUpdatedAt(SINCE.plusSeconds(2));
+        Task tiedB = taskUpdatedAt(SINCE.plusSeconds(2));
+        when(taskRepository.findUpdatedBetween(eq(SINCE), any(), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(first, tiedA, tiedB));
+        UUID deletedId = UUID.randomUUID();
+        when(taskTombstoneRepository.findTaskIdsDeletedBetween(SINCE, SINCE.plusSeconds(1))).thenReturn(List.of(deletedId));
+
+        TaskChanges changes = taskSyncService.findChangesSince(SINCE, 2);
+
+        assertEquals(List.of(first), changes.getTasks());
+        assertEquals(List.of(deletedId), changes.getDeletedIds());
+        assertEquals(SINCE.plusSeconds(1), changes.getSince());
+        assertTrue(changes.isHasMore());
+    }
+
+    @Test
+    void findChangesSince_ShouldReturnWholeTieGroup_WhenItFillsThePage() {
+        LocalDateTime tied = SINCE.plusSeconds(1);
+        List<Task> group = List.of(taskUpdatedAt(tied), taskUpdatedAt(tied), taskUpdatedAt(tied), taskUpdatedAt(tied));
+        when(taskRepository.findUpdatedBetween(eq(SINCE), any(), eq(PageRequest.of(0, 3)))).thenReturn(group.subList(0, 3));
+        when(taskRepository.findByUpdatedAt(tied)).thenReturn(group);
+
+        TaskChanges changes = taskSyncService.findChangesSince(SINCE, 2);
+
+        assertEquals(4, changes.getTasks().size());
+        assertEquals(tied, changes.getSince());
+    }
+
+    @Test
+    void findChangesSince_ShouldReturnNothing_WhenSinceIsWithinSettleTime() {
+        LocalDateTime recent = LocalDateTime.now();
+
+        TaskChanges changes = taskSyncService.findChangesSince(recent, 10);
+
+        assertTrue(changes.getTasks().isEmpty());
+        assertEquals(recent, changes.getSince());
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static Task taskUpdatedAt(LocalDateTime updatedAt) {
+        Task task = new Task("Task", "Description", Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, null);
+        task.setId(UUID.randomUUID());
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
@@ -0,0 +1,115 @@
+package com.enterprise.taskmanagement.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the routing against two in-memory H2 databases, each recording which one it is.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private String user;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("primary");
+        DataSource replicaDataSource = database("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        routing = new ReplicaRoutingDataSource(primaryDataSource, Map.of("replica-1", replicaDataSource),
+            Duration.ofSeconds(1), "SELECT lag_seconds FROM replication_status", Duration.ofMinutes(1));
+        routing.currentUser = () -> user;
+        routing.checkLag();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica_AndWritesThePrimary() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUsePrimary_WhenReplicaLagsTooFarBehind() {
+        replica.update("UPDATE replication_status SET lag_seconds = 5");
+        routing.checkLag();
+
+        assertEquals(Map.of("replica-1", false), routing.getReplicaStatus());
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+        replica.update("UPDATE replication_status SET lag_seconds = 0.2");
+        routing.checkLag();
+
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUsePrimary_ForUserWhoJustWrote() {
+        user = "alice";
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO task_marker VALUES ('written')"));
+
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM task_marker", Integer.class));
+
+        user = "bob";
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldNotMakeUserSticky_WhenRolledBack() {
+        user = "alice";
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO task_marker VALUES ('discarded')");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUsePrimary_InsideReadFromPrimary() {
+        assertEquals("primary", readOnly.execute(status -> ReplicaRoutingDataSource.readFromPrimary(this::currentDatabase)));
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE database_name (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO database_name VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replication_status (lag_seconds DOUBLE PRECISION)");
+        jdbcTemplate.update("INSERT INTO replication_status VALUES (0)");
+        jdbcTemplate.execute("CREATE TABLE task_marker (label VARCHAR(20))");
+        return dataSource;
+    }
+}
@@ -0,0 +1,45 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative task fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static Task task(int descriptionLength) {
+        Task task = new Task("Implement user authentication",
+            description(descriptionLength),
+            Task.TaskStatus.IN_PROGRESS,
+            Task.TaskPriority.HIGH,
+            UUID.randomUUID());
+        task.setId(UUID.randomUUID());
+        task.setCreatedAt(LocalDateTime.of(2024, 1, 15, 9, 30, 12));
+        task.setUpdatedAt(LocalDateTime.of(2024, 1, 16, 17, 45, 3));
+        return task;
+    }
+
+    static List<Task> tasks(int count, int descriptionLength) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(descriptionLength));
+        }
+        return tasks;
+    }
+
+    private static String description(int length) {
+        String words = "Add JWT-based authentication with refresh tokens and role checks on every endpoint. ";
+        StringBuilder description = new StringBuilder(length);
+        while (description.length() < length) {
+            description.append(words);
+        }
+        return description.substring(0, length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.cache.TaskRedisSerializer;
+import com.enterprise.taskmanagement.config.RedisConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis cache value codecs selectable with {@code app.cache.codec.type}: the JSON serializer and
+ * the binary one, with and without LZ4. Encoded sizes are printed once per trial, as
+ * {@code # payload bytes}, alongside the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheCodecBenchmark {
+
+    @Param({"json", "binary", "binary-uncompressed"})
+    private String codec;
+
+    @Param({"64", "1000"})
+    private int descriptionLength;
+
+    private RedisSerializer<Object> serializer;
+
+    private Task task;
+    private List<Task> tasks;
+    private byte[] cachedTask;
+    private byte[] cachedTasks;
+
+    @Setup
+    public void setUp() {
+        switch (codec) {
+            case "json" -> serializer = RedisConfig.jsonRedisSerializer();
+            case "binary" -> serializer = new TaskRedisSerializer(RedisConfig.jsonRedisSerializer(), 512);
+            case "binary-uncompressed" -> serializer = new TaskRedisSerializer(RedisConfig.jsonRedisSerializer(), -1);
+            default -> throw new IllegalArgumentException(codec);
+        }
+
+        task = BenchmarkData.task(descriptionLength);
+        tasks = BenchmarkData.tasks(50, descriptionLength);
+        cachedTask = serializer.serialize(task);
+        cachedTasks = serializer.serialize(tasks);
+        System.out.printf("# payload bytes (%s, description %d): task=%d, list of 50=%d%n",
+            codec, descriptionLength, cachedTask.length, cachedTasks.length);
+    }
+
+    @Benchmark
+    public byte[] writeTask() {
+        return serializer.serialize(task);
+    }
+
+    @Benchmark
+    public Object readTask() {
+        return serializer.deserialize(cachedTask);
+    }
+
+    @Benchmark
+    public byte[] writeTaskList() {
+        return serializer.serialize(tasks);
+    }
+
+    @Benchmark
+    public Object readTaskList() {
+        return serializer.deserialize(cachedTasks);
+    }
+}
@@ -0,0 +1,64 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints a side-by-side comparison of two JMH JSON result files, e.g. from two commits:
+ * <pre>
+ * mvn exec:exec@compare -Dbaseline=baseline.json -Dcurrent=target/jmh-result.json
+ * </pre>
+ * The change is relative to the baseline; for time-per-operation modes a negative change is faster.
+ */
+public final class CompareResults {
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        System.out.printf("%-72s %14s %14s %9s %s%n", "Benchmark", "Baseline", "Current", "Change", "Unit");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().get("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey()) ? baseline.get(entry.getKey()).get("primaryMetric") : null;
+            double score = now.get("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-72s %14s %14.3f %9s %s%n", entry.getKey(), "-", score, "new", now.get("scoreUnit").asText());
+                continue;
+            }
+            double baseScore = before.get("score").asDouble();
+            System.out.printf("%-72s %14.3f %14.3f %+8.1f%% %s%n", entry.getKey(), baseScore, score,
+                (score - baseScore) / baseScore * 100, now.get("scoreUnit").asText());
+        }
+    }
+
+    // Keyed by benchmark name plus parameters, so parameterised runs line up
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                .replace("com.enterprise.taskmanagement.benchmarks.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,87 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.security.JwtAuthenticationFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of bearer token authentication: the original double-parse filter, the current
+ * filter on a cache miss (one parse), and on a cache hit (digest and lookup only).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-0123456789abcdef";
+
+    private LegacyJwtAuthenticationFilter legacyFilter;
+    private JwtAuthenticationFilter filter;
+    private Cache<?, ?> verifiedTokens;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        legacyFilter = new LegacyJwtAuthenticationFilter(SECRET);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(filter, "tokenCacheMaximumSize", 10_000L);
+        ReflectionTestUtils.setField(filter, "tokenCacheTimeToLive", Duration.ofMinutes(5));
+        filter.init();
+        verifiedTokens = (Cache<?, ?>) ReflectionTestUtils.getField(filter, "verifiedTokens");
+
+        String token = Jwts.builder()
+            .subject("benchmark-user")
+            .expiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() throws Exception {
+        return authenticate(legacyFilter);
+    }
+
+    @Benchmark
+    public Object singleParseCacheMiss() throws Exception {
+        verifiedTokens.invalidateAll();
+        return authenticate(filter);
+    }
+
+    @Benchmark
+    public Object cachedVerification() throws Exception {
+        return authenticate(filter);
+    }
+
+    private Object authenticate(OncePerRequestFilter target) throws Exception {
+        // OncePerRequestFilter marks the request as filtered; reset so the same request can be replayed
+        request.removeAttribute(target.getClass().getName() + OncePerRequestFilter.ALREADY_FILTERED_SUFFIX);
+        target.doFilter(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,88 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.config.RedisConfig;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task (de)serialization as done on the HTTP path (the Spring MVC ObjectMapper) and in the Redis
+ * cache (GenericJackson2JsonRedisSerializer with type metadata), for a single task and for a
+ * status list. {@code descriptionLength} covers short and long descriptions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"64", "1000"})
+    private int descriptionLength;
+
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+    private GenericJackson2JsonRedisSerializer redisSerializer;
+
+    private Task task;
+    private List<Task> tasks;
+    private byte[] taskJson;
+    private byte[] cachedTask;
+    private byte[] cachedTasks;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings as Spring Boot's auto-configured ObjectMapper
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonWriter = objectMapper.writerFor(Task.class);
+        jsonReader = objectMapper.readerFor(Task.class);
+        redisSerializer = RedisConfig.jsonRedisSerializer();
+
+        task = BenchmarkData.task(descriptionLength);
+        tasks = BenchmarkData.tasks(50, descriptionLength);
+        taskJson = jsonWriter.writeValueAsBytes(task);
+        cachedTask = redisSerializer.serialize(task);
+        cachedTasks = redisSerializer.serialize(tasks);
+    }
+
+    @Benchmark
+    public byte[] jacksonWriteTask() throws Exception {
+        return jsonWriter.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task jacksonReadTask() throws Exception {
+        return jsonReader.readValue(taskJson);
+    }
+
+    @Benchmark
+    public Object redisRoundTripTask() {
+        return redisSerializer.deserialize(redisSerializer.serialize(task));
+    }
+
+    @Benchmark
+    public Object redisReadTask() {
+        return redisSerializer.deserialize(cachedTask);
+    }
+
+    @Benchmark
+    public Object redisRoundTripTaskList() {
+        return redisSerializer.deserialize(redisSerializer.serialize(tasks));
+    }
+
+    @Benchmark
+    public Object redisReadTaskList() {
+        return redisSerializer.deserialize(cachedTasks);
+    }
+}
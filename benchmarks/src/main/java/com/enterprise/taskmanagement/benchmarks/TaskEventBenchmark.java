@@ -0,0 +1,98 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.dto.TaskEvent;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.service.TaskEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task event values on the task-events topic: the former JSON task payload against the binary
+ * {@link TaskEventCodec} envelope, written into a Kafka record batch as the producer does, with
+ * each producer compression type. The events are a typical mix: each task is created, then has
+ * its status changed three times. Batch sizes are printed once per trial, as {@code # batch bytes}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskEventBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"json", "envelope"})
+    private String format;
+
+    @Param({"none", "lz4", "zstd"})
+    private String compression;
+
+    private ObjectWriter jsonWriter;
+    private CompressionType compressionType;
+
+    private List<Task> tasks;
+    private List<TaskEvent> events;
+    private List<byte[]> keys;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings as Spring Boot's auto-configured ObjectMapper
+        jsonWriter = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writerFor(Task.class);
+        compressionType = CompressionType.forName(compression);
+
+        tasks = new ArrayList<>(BATCH_SIZE);
+        events = new ArrayList<>(BATCH_SIZE);
+        keys = new ArrayList<>(BATCH_SIZE);
+        Task task = null;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (i % 4 == 0) {
+                task = BenchmarkData.task(200);
+                task.setVersion(0L);
+                events.add(TaskEvent.created(task));
+            } else {
+                Task previous = new Task(task);
+                task.setStatus(i % 4 == 3 ? Task.TaskStatus.DONE : Task.TaskStatus.IN_PROGRESS);
+                task.setVersion(task.getVersion() + 1);
+                events.add(TaskEvent.updated(previous, task));
+            }
+            tasks.add(new Task(task));
+            keys.add(task.getId().toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        MemoryRecords batch = writeBatch();
+        System.out.printf("# batch bytes (%s, %s): %d for %d events, %.1f per event%n",
+            format, compression, batch.sizeInBytes(), BATCH_SIZE, batch.sizeInBytes() / (double) BATCH_SIZE);
+    }
+
+    @Benchmark
+    public MemoryRecords writeBatch() throws Exception {
+        MemoryRecordsBuilder builder = MemoryRecords.builder(ByteBuffer.allocate(64 * 1024), compressionType,
+            TimestampType.CREATE_TIME, 0L);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            builder.append(now, keys.get(i), value(i));
+        }
+        return builder.build();
+    }
+
+    private byte[] value(int i) throws Exception {
+        return "json".equals(format) ? jsonWriter.writeValueAsBytes(tasks.get(i)) : TaskEventCodec.encode(events.get(i));
+    }
+}
@@ -0,0 +1,87 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.controller.TaskListWriter;
+import com.enterprise.taskmanagement.dto.TaskFields;
+import com.enterprise.taskmanagement.dto.TaskListItem;
+import com.enterprise.taskmanagement.entity.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A 50-task list response: written per response by the ObjectMapper, as Spring MVC's converter
+ * did, and by {@link TaskListWriter} with every field, as {@link TaskListItem}s, and with the
+ * {@code fields=title,status,priority} fieldset. Response sizes, plain and gzipped, are printed
+ * once per trial as {@code # response bytes}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListBenchmark {
+
+    @Param({"64", "1000"})
+    private int descriptionLength;
+
+    private ObjectMapper objectMapper;
+    private TaskListWriter taskListWriter;
+    private TaskFields sparse;
+
+    private List<Task> tasks;
+    private List<TaskListItem> items;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings as Spring Boot's auto-configured ObjectMapper
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskListWriter = new TaskListWriter(objectMapper);
+        sparse = TaskFields.parse("title,status,priority");
+
+        tasks = BenchmarkData.tasks(50, descriptionLength);
+        items = tasks.stream()
+            .map(task -> new TaskListItem(task.getId(), task.getTitle(), task.getStatus(), task.getPriority(),
+                task.getAssigneeId(), task.getVersion(), task.getCreatedAt(), task.getUpdatedAt()))
+            .collect(Collectors.toList());
+        System.out.printf("# response bytes (description %d): full=%s, items=%s, sparse=%s%n", descriptionLength,
+            sizes(objectMapperWrite()), sizes(writeItems()), sizes(writeSparse()));
+    }
+
+    @Benchmark
+    public byte[] objectMapperWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] writeFull() {
+        return taskListWriter.write(tasks, Task.class, TaskFields.ALL);
+    }
+
+    @Benchmark
+    public byte[] writeItems() {
+        return taskListWriter.write(items, TaskListItem.class, TaskFields.ALL);
+    }
+
+    @Benchmark
+    public byte[] writeSparse() {
+        return taskListWriter.write(items, TaskListItem.class, sparse);
+    }
+
+    private static String sizes(byte[] json) throws Exception {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        return json.length + " (" + gzipped.size() + " gzip)";
+    }
+}
@@ -0,0 +1,59 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.dto.TaskUpdateRequest;
+import com.enterprise.taskmanagement.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskUpdateRequest.applyTo, the merge shared by single and bulk updates, including the
+ * snapshot TaskService takes of the previous state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskMergeBenchmark {
+
+    private Task task;
+    private TaskUpdateRequest statusOnly;
+    private TaskUpdateRequest allFields;
+
+    @Setup
+    public void setUp() {
+        task = BenchmarkData.task(200);
+
+        statusOnly = new TaskUpdateRequest();
+        statusOnly.setStatus(Task.TaskStatus.DONE);
+
+        allFields = new TaskUpdateRequest();
+        allFields.setTitle("Implement user authentication (v2)");
+        allFields.setDescription("Rotate signing keys and shorten token lifetime");
+        allFields.setStatus(Task.TaskStatus.IN_PROGRESS);
+        allFields.setPriority(Task.TaskPriority.LOW);
+        allFields.setAssigneeId(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Task applyStatusOnly() {
+        statusOnly.applyTo(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task applyAllFields() {
+        allFields.applyTo(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task snapshotAndApply() {
+        Task previous = new Task(task);
+        allFields.applyTo(task);
+        return previous;
+    }
+}
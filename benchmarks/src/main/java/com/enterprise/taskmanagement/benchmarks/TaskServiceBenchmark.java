@@ -0,0 +1,150 @@
+package com.enterprise.taskmanagement.benchmarks;
+
+import com.enterprise.taskmanagement.cache.TaskCacheWriter;
+import com.enterprise.taskmanagement.dto.TaskCreateRequest;
+import com.enterprise.taskmanagement.dto.TaskUpdateRequest;
+import com.enterprise.taskmanagement.entity.Task;
+import com.enterprise.taskmanagement.repository.OutboxEventRepository;
+import com.enterprise.taskmanagement.repository.TaskRepository;
+import com.enterprise.taskmanagement.service.OutboxService;
+import com.enterprise.taskmanagement.service.TaskService;
+import com.enterprise.taskmanagement.service.TaskStatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService create and update, end to end through JPA on an in-memory H2 database. Kafka is not
+ * involved: events go to the outbox table in the same transaction. The Redis side effects (cache
+ * write-through, stats counters) are replaced by no-ops so only the database path is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private OutboxEventRepository outboxEventRepository;
+
+    private TaskCreateRequest createRequest;
+    private TaskUpdateRequest[] updateRequests;
+    private UUID existingId;
+    private int nextUpdate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                // Keep the backend's application.yml (PostgreSQL, Redis, Kafka) out of the picture
+                "spring.config.name=task-service-benchmark",
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=20",
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "spring.jpa.properties.hibernate.order_updates=true",
+                "spring.sql.init.mode=never",
+                // The migrations are PostgreSQL DDL; H2 gets its schema from the mappings
+                "spring.flyway.enabled=false")
+            .run();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        outboxEventRepository = context.getBean(OutboxEventRepository.class);
+
+        createRequest = new TaskCreateRequest("Benchmark task", "Created by TaskServiceBenchmark",
+            Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, UUID.randomUUID());
+        existingId = taskService.createTask(createRequest).getId();
+
+        updateRequests = new TaskUpdateRequest[Task.TaskStatus.values().length];
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            TaskUpdateRequest request = new TaskUpdateRequest();
+            request.setStatus(status);
+            updateRequests[status.ordinal()] = request;
+        }
+    }
+
+    // Keep table sizes stable across iterations
+    @Setup(Level.Iteration)
+    public void clearTables() {
+        outboxEventRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        existingId = taskService.createTask(createRequest).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(createRequest);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        // Alternate the status so every call produces a real UPDATE
+        TaskUpdateRequest request = updateRequests[nextUpdate++ % updateRequests.length];
+        return taskService.updateTask(existingId, request);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({TaskService.class, OutboxService.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new NoOpCacheManager();
+        }
+
+        @Bean
+        TaskCacheWriter taskCacheWriter() {
+            return new TaskCacheWriter() {
+                @Override
+                public void taskSaved(Task task, Task.TaskStatus previousStatus) {
+                }
+
+                @Override
+                public void taskDeleted(UUID id, Task.TaskStatus status) {
+                }
+            };
+        }
+
+        @Bean
+        TaskStatsService taskStatsService() {
+            return new TaskStatsService() {
+                @Override
+                public void taskCreated(Task task) {
+                }
+
+                @Override
+                public void taskUpdated(Task previous, Task current) {
+                }
+
+                @Override
+                public void taskDeleted(Task task) {
+                }
+            };
+        }
+    }
+}
@@ -19,23 +19,6 @@ GRANT ALL PRIVILEGES ON DATABASE taskmanagement TO taskuser;
 -- Connect to the database
 \c taskmanagement;
 
--- Create tasks table if not exists (JPA will handle this, but good to have)
-CREATE TABLE IF NOT EXISTS tasks (
-    id UUID PRIMARY KEY,
-    title VARCHAR(255) NOT NULL,
-    description TEXT,
-    status VARCHAR(20) NOT NULL DEFAULT 'TODO',
-    priority VARCHAR(20) NOT NULL DEFAULT 'MEDIUM',
-    assignee_id UUID,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
-
--- Create indexes for performance
-CREATE INDEX IF NOT EXISTS idx_task_status ON tasks(status);
-CREATE INDEX IF NOT EXISTS idx_task_assignee ON tasks(assignee_id);
-CREATE INDEX IF NOT EXISTS idx_task_created ON tasks(created_at);
-
--- Grant table permissions
-GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO taskuser;
-GRANT ALL PRIVILEGES ON ALL SEQUENCES IN SCHEMA public TO taskuser;
\ No newline at end of file
+-- Tables are created and upgraded by the backend's Flyway migrations
+-- (backend/src/main/resources/db/migration), run as taskuser by the backend-migrate service or Job
+GRANT ALL PRIVILEGES ON SCHEMA public TO taskuser;
\ No newline at end of file
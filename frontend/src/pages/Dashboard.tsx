@@ -15,23 +15,35 @@ import {
   TrendingUp,
 } from '@mui/icons-material';
 import { RootState, AppDispatch } from '../store/store';
-import { fetchTasks } from '../store/taskSlice';
+import { fetchTaskCounts } from '../store/taskSlice';
+import { subscribeToTaskChanges } from '../services/taskStream';
+
+// Pushed changes arrive in bursts; the counts are reloaded once the burst is over
+const COUNTS_REFRESH_DELAY_MS = 1000;
 
 const Dashboard: React.FC = () => {
   const dispatch = useDispatch<AppDispatch>();
-  const { tasks, loading } = useSelector((state: RootState) => state.tasks);
+  const counts = useSelector((state: RootState) => state.tasks.counts);
 
   useEffect(() => {
-    dispatch(fetchTasks());
+    // Counted by the server over every task, not over the pages loaded in the browser
+    dispatch(fetchTaskCounts());
+    let refresh: ReturnType<typeof setTimeout> | undefined;
+    const scheduleRefresh = () => {
+      clearTimeout(refresh);
+      refresh = setTimeout(() => dispatch(fetchTaskCounts()), COUNTS_REFRESH_DELAY_MS);
+    };
+    const unsubscribe = subscribeToTaskChanges({
+      onUpsert: scheduleRefresh,
+      onRemove: scheduleRefresh,
+      onResync: scheduleRefresh,
+    });
+    return () => {
+      clearTimeout(refresh);
+      unsubscribe();
+    };
   }, [dispatch]);
 
-  const taskStats = {
-    total: tasks.length,
-    completed: tasks.filter(task => task.status === 'DONE').length,
-    inProgress: tasks.filter(task => task.status === 'IN_PROGRESS').length,
-    pending: tasks.filter(task => task.status === 'TODO').length,
-  };
-
   const StatCard = ({ title, value, icon, color }: any) => (
     <Card sx={{ height: '100%' }}>
       <CardContent>
@@ -52,7 +64,7 @@ const Dashboard: React.FC = () => {
     </Card>
   );
 
-  if (loading) {
+  if (!counts) {
     return (
       <Box display="flex" justifyContent="center" alignItems="center" minHeight="400px">
         <CircularProgress />
@@ -70,7 +82,7 @@ const Dashboard: React.FC = () => {
         <Grid item xs={12} sm={6} md={3}>
           <StatCard
             title="Total Tasks"
-            value={taskStats.total}
+            value={counts.totalCount}
             icon={<Assignment fontSize="large" />}
             color="primary.main"
           />
@@ -79,7 +91,7 @@ const Dashboard: React.FC = () => {
         <Grid item xs={12} sm={6} md={3}>
           <StatCard
             title="Completed"
-            value={taskStats.completed}
+            value={counts.doneCount}
             icon={<CheckCircle fontSize="large" />}
             color="success.main"
           />
@@ -88,7 +100,7 @@ const Dashboard: React.FC = () => {
         <Grid item xs={12} sm={6} md={3}>
           <StatCard
             title="In Progress"
-            value={taskStats.inProgress}
+            value={counts.inProgressCount}
             icon={<Schedule fontSize="large" />}
             color="warning.main"
           />
@@ -97,7 +109,7 @@ const Dashboard: React.FC = () => {
         <Grid item xs={12} sm={6} md={3}>
           <StatCard
             title="Pending"
-            value={taskStats.pending}
+            value={counts.todoCount}
             icon={<TrendingUp fontSize="large" />}
             color="error.main"
           />
@@ -25,11 +25,12 @@ import {
 } from '@mui/material';
 import { Add, Edit, Delete } from '@mui/icons-material';
 import { RootState, AppDispatch } from '../store/store';
-import { fetchTasks, createTask, updateTask, Task } from '../store/taskSlice';
+import { fetchTasks, fetchMoreTasks, createTask, updateTask, taskUpserted, taskRemoved, Task } from '../store/taskSlice';
+import { subscribeToTaskChanges } from '../services/taskStream';
 
 const TaskList: React.FC = () => {
   const dispatch = useDispatch<AppDispatch>();
-  const { tasks, loading } = useSelector((state: RootState) => state.tasks);
+  const { tasks, nextCursor, loadingMore } = useSelector((state: RootState) => state.tasks);
   const [open, setOpen] = useState(false);
   const [editingTask, setEditingTask] = useState<Task | null>(null);
   const [formData, setFormData] = useState({
@@ -42,6 +43,12 @@ const TaskList: React.FC = () => {
 
   useEffect(() => {
     dispatch(fetchTasks());
+    // Keep the list current from pushed changes instead of re-polling
+    return subscribeToTaskChanges({
+      onUpsert: task => dispatch(taskUpserted(task)),
+      onRemove: id => dispatch(taskRemoved(id)),
+      onResync: () => dispatch(fetchTasks()),
+    });
   }, [dispatch]);
 
   const handleSubmit = () => {
@@ -154,6 +161,14 @@ const TaskList: React.FC = () => {
         </Table>
       </TableContainer>
 
+      {nextCursor && (
+        <Box display="flex" justifyContent="center" mt={2}>
+          <Button onClick={() => dispatch(fetchMoreTasks())} disabled={loadingMore}>
+            {loadingMore ? 'Loading…' : 'Load more'}
+          </Button>
+        </Box>
+      )}
+
       <Dialog open={open} onClose={handleClose} maxWidth="sm" fullWidth>
         <DialogTitle>
           {editingTask ? 'Edit Task' : 'Create New Task'}
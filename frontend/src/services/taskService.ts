@@ -1,8 +1,22 @@
 import { api } from './api';
 import { Task } from '../store/taskSlice';
 
+// Task counts kept by the server, for the whole collection rather than the pages loaded here
+export interface TaskCounts {
+  todoCount: number;
+  inProgressCount: number;
+  doneCount: number;
+  totalCount: number;
+}
+
+export const TASK_PAGE_SIZE = 50;
+
 export const taskService = {
-  getAllTasks: () => api.get<Task[]>('/tasks'),
+  // One page, newest first; the X-Next-Cursor response header, when present, fetches the next
+  getTaskPage: (cursor?: string) =>
+    api.get<Task[]>('/tasks', { params: { cursor, size: TASK_PAGE_SIZE } }),
+  
+  getTaskCounts: () => api.get<TaskCounts>('/tasks/stats/count'),
   
   getTaskById: (id: string) => api.get<Task>(`/tasks/${id}`),
   
@@ -0,0 +1,121 @@
+import { API_BASE_URL } from './api';
+import { Task, TaskDelta } from '../store/taskSlice';
+
+export interface TaskStreamFilter {
+  status?: Task['status'];
+  assigneeId?: string;
+}
+
+export interface TaskStreamHandlers {
+  onUpsert: (task: TaskDelta) => void;
+  onRemove: (taskId: string) => void;
+  // The stream could not deliver every change; reload the task list
+  onResync: () => void;
+}
+
+interface TaskChangeEvent {
+  type: string;
+  taskId: string;
+  task?: TaskDelta;
+}
+
+const MAX_RETRY_DELAY_MS = 30000;
+
+/**
+ * Follows /tasks/stream (Server-Sent Events). Uses fetch rather than EventSource so the bearer
+ * token can be sent; reconnects with Last-Event-ID to resume where it left off.
+ * Returns a function that closes the stream.
+ */
+export const subscribeToTaskChanges = (
+  handlers: TaskStreamHandlers,
+  filter: TaskStreamFilter = {},
+): (() => void) => {
+  const controller = new AbortController();
+  let lastEventId: string | undefined;
+  let retryDelay = 1000;
+
+  const dispatchEvent = (name: string, data: string) => {
+    if (name === 'resync') {
+      handlers.onResync();
+      return;
+    }
+    const event: TaskChangeEvent = JSON.parse(data);
+    if (event.task && (name === 'task.created' || name === 'task.updated')) {
+      handlers.onUpsert(event.task);
+    } else if (name === 'task.deleted' || name === 'task.removed') {
+      handlers.onRemove(event.taskId);
+    }
+  };
+
+  const readStream = async (response: Response) => {
+    const reader = response.body!.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+    let name = 'message';
+    let data: string[] = [];
+
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) {
+        return;
+      }
+      buffer += decoder.decode(value, { stream: true });
+      let newline: number;
+      while ((newline = buffer.indexOf('\n')) >= 0) {
+        const line = buffer.slice(0, newline).replace(/\r$/, '');
+        buffer = buffer.slice(newline + 1);
+        if (line === '') {
+          if (data.length > 0) {
+            dispatchEvent(name, data.join('\n'));
+          }
+          name = 'message';
+          data = [];
+        } else if (line.startsWith('id:')) {
+          lastEventId = line.slice(3).trim();
+        } else if (line.startsWith('event:')) {
+          name = line.slice(6).trim();
+        } else if (line.startsWith('data:')) {
+          data.push(line.slice(5).replace(/^ /, ''));
+        }
+      }
+    }
+  };
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      const params = new URLSearchParams();
+      if (filter.status) params.set('status', filter.status);
+      if (filter.assigneeId) params.set('assigneeId', filter.assigneeId);
+      const headers: Record<string, string> = { Accept: 'text/event-stream' };
+      const token = localStorage.getItem('token');
+      if (token) headers.Authorization = `Bearer ${token}`;
+      if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+      try {
+        const response = await fetch(`${API_BASE_URL}/tasks/stream?${params}`, {
+          headers,
+          signal: controller.signal,
+        });
+        if (response.status === 401) {
+          return;
+        }
+        if (response.ok && response.body) {
+          retryDelay = 1000;
+          await readStream(response);
+        } else {
+          const retryAfter = Number(response.headers.get('Retry-After'));
+          if (retryAfter > 0) retryDelay = retryAfter * 1000;
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+      }
+
+      // Spread reconnects out so a restarted server is not hit by every client at once
+      await new Promise(resolve => setTimeout(resolve, retryDelay * (0.5 + Math.random())));
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
@@ -1,5 +1,5 @@
 import { createSlice, createAsyncThunk, PayloadAction } from '@reduxjs/toolkit';
-import { taskService } from '../services/taskService';
+import { taskService, TaskCounts } from '../services/taskService';
 
 export interface Task {
   id: string;
@@ -10,24 +10,59 @@ export interface Task {
   assigneeId: string;
   createdAt: string;
   updatedAt: string;
+  version?: number;
 }
 
+// A change from the task stream: the id and version plus only the fields the change carries
+export type TaskDelta = Partial<Task> & Pick<Task, 'id'>;
+
 interface TaskState {
   tasks: Task[];
+  // Cursor of the next page; null once every page is loaded
+  nextCursor: string | null;
   loading: boolean;
+  loadingMore: boolean;
+  counts: TaskCounts | null;
   error: string | null;
 }
 
 const initialState: TaskState = {
   tasks: [],
+  nextCursor: null,
   loading: false,
+  loadingMore: false,
+  counts: null,
   error: null,
 };
 
-export const fetchTasks = createAsyncThunk(
-  'tasks/fetchTasks',
+interface TaskPage {
+  tasks: Task[];
+  nextCursor: string | null;
+}
+
+const fetchPage = async (cursor?: string): Promise<TaskPage> => {
+  const response = await taskService.getTaskPage(cursor);
+  return { tasks: response.data, nextCursor: response.headers['x-next-cursor'] ?? null };
+};
+
+// Loads the first page; later pages are loaded on demand by fetchMoreTasks
+export const fetchTasks = createAsyncThunk('tasks/fetchTasks', () => fetchPage());
+
+export const fetchMoreTasks = createAsyncThunk(
+  'tasks/fetchMoreTasks',
+  (_: void, { getState }) => fetchPage((getState() as { tasks: TaskState }).tasks.nextCursor ?? undefined),
+  {
+    condition: (_: void, { getState }) => {
+      const { nextCursor, loadingMore } = (getState() as { tasks: TaskState }).tasks;
+      return nextCursor != null && !loadingMore;
+    },
+  }
+);
+
+export const fetchTaskCounts = createAsyncThunk(
+  'tasks/fetchTaskCounts',
   async () => {
-    const response = await taskService.getAllTasks();
+    const response = await taskService.getTaskCounts();
     return response.data;
   }
 );
@@ -51,7 +86,27 @@ export const updateTask = createAsyncThunk(
 const taskSlice = createSlice({
   name: 'tasks',
   initialState,
-  reducers: {},
+  reducers: {
+    // Changes pushed by the task stream
+    taskUpserted: (state, action: PayloadAction<TaskDelta>) => {
+      const delta = action.payload;
+      const index = state.tasks.findIndex(task => task.id === delta.id);
+      if (index !== -1) {
+        const current = state.tasks[index];
+        // Replayed or reordered changes must not roll the task back
+        if (current.version != null && delta.version != null && delta.version <= current.version) {
+          return;
+        }
+        state.tasks[index] = { ...current, ...delta };
+      } else if (delta.title !== undefined) {
+        // A created task carries every field; an update of a task not loaded here is not enough to show it
+        state.tasks.push(delta as Task);
+      }
+    },
+    taskRemoved: (state, action: PayloadAction<string>) => {
+      state.tasks = state.tasks.filter(task => task.id !== action.payload);
+    },
+  },
   extraReducers: (builder) => {
     builder
       .addCase(fetchTasks.pending, (state) => {
@@ -60,14 +115,38 @@ const taskSlice = createSlice({
       })
       .addCase(fetchTasks.fulfilled, (state, action) => {
         state.loading = false;
-        state.tasks = action.payload;
+        state.tasks = action.payload.tasks;
+        state.nextCursor = action.payload.nextCursor;
       })
       .addCase(fetchTasks.rejected, (state, action) => {
         state.loading = false;
         state.error = action.error.message || 'Failed to fetch tasks';
       })
+      .addCase(fetchMoreTasks.pending, (state) => {
+        state.loadingMore = true;
+      })
+      .addCase(fetchMoreTasks.fulfilled, (state, action) => {
+        state.loadingMore = false;
+        // The stream may already have delivered some of these
+        const loaded = new Set(state.tasks.map(task => task.id));
+        state.tasks.push(...action.payload.tasks.filter(task => !loaded.has(task.id)));
+        state.nextCursor = action.payload.nextCursor;
+      })
+      .addCase(fetchMoreTasks.rejected, (state, action) => {
+        state.loadingMore = false;
+        state.error = action.error.message || 'Failed to fetch tasks';
+      })
+      .addCase(fetchTaskCounts.fulfilled, (state, action) => {
+        state.counts = action.payload;
+      })
+      .addCase(fetchTaskCounts.rejected, (state, action) => {
+        state.error = action.error.message || 'Failed to fetch task counts';
+      })
       .addCase(createTask.fulfilled, (state, action) => {
-        state.tasks.push(action.payload);
+        // The stream may have delivered the new task first
+        if (!state.tasks.some(task => task.id === action.payload.id)) {
+          state.tasks.push(action.payload);
+        }
       })
       .addCase(updateTask.fulfilled, (state, action) => {
         const index = state.tasks.findIndex(task => task.id === action.payload.id);
@@ -78,4 +157,6 @@ const taskSlice = createSlice({
   },
 });
 
+export const { taskUpserted, taskRemoved } = taskSlice.actions;
+
 export default taskSlice.reducer;
\ No newline at end of file
@@ -0,0 +1,66 @@
+// Read-heavy load against the task API, for comparing platform and virtual thread modes.
+//
+//   k6 run -e JWT_SECRET=... loadtest/task-reads.js
+//
+// The server must run with the same JWT_SECRET (at least 32 bytes). See loadtest/README.md.
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const JWT_SECRET = __ENV.JWT_SECRET;
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '1000', 10);
+
+export const options = {
+  scenarios: {
+    // Concurrency well past Tomcat's 200 platform threads is what separates the two modes
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: MAX_VUS / 4 },
+        { duration: '1m', target: MAX_VUS },
+        { duration: '2m', target: MAX_VUS },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function token() {
+  const header = encoding.b64encode(JSON.stringify({ alg: 'HS256', typ: 'JWT' }), 'rawurl');
+  const now = Math.floor(Date.now() / 1000);
+  const payload = encoding.b64encode(JSON.stringify({ sub: 'load-test', iat: now, exp: now + 3600 }), 'rawurl');
+  const signature = crypto.hmac('sha256', JWT_SECRET, `${header}.${payload}`, 'base64rawurl');
+  return `${header}.${payload}.${signature}`;
+}
+
+export function setup() {
+  if (!JWT_SECRET) {
+    throw new Error('JWT_SECRET is required');
+  }
+  const params = { headers: { Authorization: `Bearer ${token()}` } };
+  const first = http.get(`${BASE_URL}/api/tasks?size=50`, params);
+  check(first, { 'seed page loaded': (r) => r.status === 200 });
+  return { params, ids: first.json().map((task) => task.id) };
+}
+
+export default function (data) {
+  const roll = Math.random();
+  let res;
+  if (roll < 0.5 && data.ids.length > 0) {
+    res = http.get(`${BASE_URL}/api/tasks/${data.ids[Math.floor(Math.random() * data.ids.length)]}`, data.params);
+  } else if (roll < 0.8) {
+    res = http.get(`${BASE_URL}/api/tasks?size=20`, data.params);
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/tasks/search?keyword=task`, data.params);
+  } else {
+    res = http.get(`${BASE_URL}/api/tasks/stats/count`, data.params);
+  }
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}